@@ -133,6 +133,25 @@ public class CodegenAccess {
         return IterImpl.readObjectFieldAsHash(iter);
     }
 
+    /**
+     * @param field bytes of the expected field name, one char per byte
+     * @return the field name read by readObjectFieldAsHash has the same bytes
+     */
+    public static final boolean fieldEquals(JsonIterator iter, String field) {
+        int start = iter.fieldStart;
+        int len = iter.fieldEnd - start;
+        if (len != field.length()) {
+            return false;
+        }
+        byte[] buf = iter.fieldBuf;
+        for (int i = 0; i < len; i++) {
+            if (buf[start + i] != (byte) field.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public static final Slice readObjectFieldAsSlice(JsonIterator iter) throws IOException {
         return IterImpl.readObjectFieldAsSlice(iter);
     }
@@ -19,7 +19,7 @@ class CodegenImplEnum {
     private static Map<Integer, Object> buildTriTree(List<Object> allConsts) {
         Map<Integer, Object> trieTree = new HashMap<Integer, Object>();
         for (Object e : allConsts) {
-                byte[] fromNameBytes = e.toString().getBytes();
+                byte[] fromNameBytes = Utf8Chars.encode(e.toString());
                 Map<Byte, Object> current = (Map<Byte, Object>) trieTree.get(fromNameBytes.length);
                 if (current == null) {
                     current = new HashMap<Byte, Object>();
@@ -188,6 +188,10 @@ class CodegenImplNative {
     static String genField(Binding field) {
         String fieldCacheKey = field.decoderCacheKey();
         Type fieldType = field.valueType;
+        if (field.decoder instanceof Decoder.FixedPointDecoder) {
+            // read the primitive directly, not through the decoder cache
+            return String.format("iter.readFixedPoint(%d)", ((Decoder.FixedPointDecoder) field.decoder).scale);
+        }
         return String.format("(%s)%s", getTypeName(fieldType), genReadOp(fieldCacheKey, fieldType));
 
     }
@@ -2,11 +2,13 @@ package com.jsoniter;
 
 import com.jsoniter.spi.*;
 
+import java.io.UnsupportedEncodingException;
 import java.util.*;
 
 class CodegenImplObjectHash {
 
-    // the implementation is from dsljson, it is the fastest although has the risk not matching field strictly
+    // the implementation is from dsljson, switching on the hash of the field name is the fastest.
+    // the hash is mapped to a dense switch by a perfect hash, the name is verified by its bytes before binding
     public static String genObjectUsingHash(ClassDescriptor desc) {
         Class clazz = desc.clazz;
         StringBuilder lines = new StringBuilder();
@@ -58,7 +60,6 @@ class CodegenImplObjectHash {
             }
         }
         // === bind fields
-        HashSet<Integer> knownHashes = new HashSet<Integer>();
         HashMap<String, Binding> bindings = new HashMap<String, Binding>();
         for (Binding binding : desc.allDecoderBindings()) {
             for (String fromName : binding.fromNames) {
@@ -66,33 +67,51 @@ class CodegenImplObjectHash {
             }
         }
         ArrayList<String> fromNames = new ArrayList<String>(bindings.keySet());
-        Collections.sort(fromNames, new Comparator<String>() {
-            @Override
-            public int compare(String o1, String o2) {
-                int x = calcHash(o1);
-                int y = calcHash(o2);
-                return (x < y) ? -1 : ((x == y) ? 0 : 1);
+        Collections.sort(fromNames);
+        // names sharing the hash are told apart by their bytes, so any hash is usable
+        TreeMap<Integer, List<String>> namesByHash = new TreeMap<Integer, List<String>>();
+        for (String fromName : fromNames) {
+            int intHash = calcHash(fromName);
+            List<String> names = namesByHash.get(intHash);
+            if (names == null) {
+                names = new ArrayList<String>();
+                namesByHash.put(intHash, names);
             }
-        });
+            names.add(fromName);
+        }
         // === bind more fields
         append(lines, "do {");
-        append(lines, "switch (com.jsoniter.CodegenAccess.readObjectFieldAsHash(iter)) {");
-        for (String fromName : fromNames) {
-            int intHash = calcHash(fromName);
-            if (intHash == 0) {
-                // hash collision, 0 can not be used as sentinel
-                return CodegenImplObjectStrict.genObjectUsingStrict(desc);
+        if (namesByHash.isEmpty()) {
+            append(lines, "com.jsoniter.CodegenAccess.readObjectFieldAsHash(iter);");
+        } else {
+            int[] hashes = new int[namesByHash.size()];
+            int i = 0;
+            for (Integer intHash : namesByHash.keySet()) {
+                hashes[i++] = intHash;
+            }
+            int bits = Math.max(1, 32 - Integer.numberOfLeadingZeros(hashes.length - 1));
+            int multiplier = findMultiplier(hashes, bits);
+            while (multiplier == 0) {
+                bits++;
+                multiplier = findMultiplier(hashes, bits);
             }
-            if (knownHashes.contains(intHash)) {
-                // hash collision with other field can not be used as sentinel
-                return CodegenImplObjectStrict.genObjectUsingStrict(desc);
+            int shift = 32 - bits;
+            // perfect hash: each known hash gets its own slot, the switch is a dense table
+            append(lines, String.format("switch ((com.jsoniter.CodegenAccess.readObjectFieldAsHash(iter) * (%d)) >>> %d) {",
+                    multiplier, shift));
+            for (Map.Entry<Integer, List<String>> entry : namesByHash.entrySet()) {
+                append(lines, "case " + ((entry.getKey() * multiplier) >>> shift) + ": ");
+                for (String fromName : entry.getValue()) {
+                    append(lines, String.format("if (com.jsoniter.CodegenAccess.fieldEquals(iter, %s)) {",
+                            toLiteral(fromName)));
+                    appendBindingSet(lines, desc, bindings.get(fromName));
+                    append(lines, "continue;");
+                    append(lines, "}");
+                }
+                append(lines, "break;");
             }
-            knownHashes.add(intHash);
-            append(lines, "case " + intHash + ": ");
-            appendBindingSet(lines, desc, bindings.get(fromName));
-            append(lines, "continue;");
+            append(lines, "}");
         }
-        append(lines, "}");
         append(lines, "iter.skip();");
         append(lines, "} while (com.jsoniter.CodegenAccess.nextTokenIsComma(iter));");
         append(lines, CodegenImplNative.getTypeName(clazz) + " obj = {{newInst}};");
@@ -114,13 +133,73 @@ class CodegenImplObjectHash {
 
     public static int calcHash(String fromName) {
         long hash = 0x811c9dc5;
-        for (byte b : fromName.getBytes()) {
+        for (byte b : toBytes(fromName)) {
             hash ^= b;
             hash *= 0x1000193;
         }
         return (int) hash;
     }
 
+    // odd multiplier mapping every hash to a distinct slot of the top bits, 0 if none found
+    private static int findMultiplier(int[] hashes, int bits) {
+        Random random = new Random(hashes.length);
+        boolean[] taken = new boolean[1 << bits];
+        for (int attempt = 0; attempt < 1000; attempt++) {
+            int multiplier = random.nextInt() | 1;
+            Arrays.fill(taken, false);
+            boolean distinct = true;
+            for (int hash : hashes) {
+                int slot = (hash * multiplier) >>> (32 - bits);
+                if (taken[slot]) {
+                    distinct = false;
+                    break;
+                }
+                taken[slot] = true;
+            }
+            if (distinct) {
+                return multiplier;
+            }
+        }
+        return 0;
+    }
+
+    // one char per utf-8 byte, the generated source might be compiled without unicode escape support
+    private static String toLiteral(String fromName) {
+        StringBuilder literal = new StringBuilder("\"");
+        for (byte b : toBytes(fromName)) {
+            char c = (char) (b & 0xff);
+            switch (c) {
+                case '"':
+                    literal.append("\\\"");
+                    break;
+                case '\\':
+                    literal.append("\\\\");
+                    break;
+                case '\n':
+                    literal.append("\\n");
+                    break;
+                case '\r':
+                    literal.append("\\r");
+                    break;
+                case '\t':
+                    literal.append("\\t");
+                    break;
+                default:
+                    literal.append(c);
+            }
+        }
+        literal.append('"');
+        return literal.toString();
+    }
+
+    private static byte[] toBytes(String fromName) {
+        try {
+            return fromName.getBytes("UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            throw new JsonException(e);
+        }
+    }
+
     private static void appendBindingSet(StringBuilder lines, ClassDescriptor desc, Binding binding) {
         append(lines, String.format("_%s_ = %s;", binding.name, CodegenImplNative.genField(binding)));
     }
@@ -274,7 +274,7 @@ class CodegenImplObjectStrict {
         Map<Integer, Object> trieTree = new HashMap<Integer, Object>();
         for (Binding field : allBindings) {
             for (String fromName : field.fromNames) {
-                byte[] fromNameBytes = fromName.getBytes();
+                byte[] fromNameBytes = Utf8Chars.encode(fromName);
                 Map<Byte, Object> current = (Map<Byte, Object>) trieTree.get(fromNameBytes.length);
                 if (current == null) {
                     current = new HashMap<Byte, Object>();
@@ -25,10 +25,4 @@ class DynamicCodegen {
         decoder = (Decoder) ctClass.toClass().newInstance();
         return decoder;
     }
-
-    public static void enableStreamingSupport() throws Exception {
-        CtClass ctClass = pool.makeClass("com.jsoniter.IterImpl");
-        ctClass.setSuperclass(pool.get(IterImplForStreaming.class.getName()));
-        ctClass.toClass();
-    }
 }
@@ -5,8 +5,11 @@ import com.jsoniter.spi.JsonException;
 import com.jsoniter.spi.Slice;
 
 import java.io.IOException;
+import java.math.BigDecimal;
 import java.math.BigInteger;
 
+// the byte[] implementation, an iterator reading InputStream is handed over to IterImplForStreaming,
+// checked per call so both kinds of iterator can be used in the same process
 class IterImpl {
 
     private static BigInteger maxLong = BigInteger.valueOf(Long.MAX_VALUE);
@@ -15,22 +18,24 @@ class IterImpl {
     private static BigInteger minInt = BigInteger.valueOf(Integer.MIN_VALUE);
 
     public static final int readObjectFieldAsHash(JsonIterator iter) throws IOException {
+        if (iter.in != null) {
+            return IterImplForStreaming.readObjectFieldAsHash(iter);
+        }
         if (readByte(iter) != '"') {
             if (nextToken(iter) != '"') {
                 throw iter.reportError("readObjectFieldAsHash", "expect \"");
             }
         }
         long hash = 0x811c9dc5;
-        int i = iter.head;
-        for (; i < iter.tail; i++) {
-            byte c = iter.buf[i];
-            if (c == '"') {
-                break;
-            }
-            hash ^= c;
+        int end = IterImplScan.findQuote(iter, iter.head, iter.tail);
+        for (int i = iter.head; i < end; i++) {
+            hash ^= iter.buf[i];
             hash *= 0x1000193;
         }
-        iter.head = i + 1;
+        iter.fieldBuf = iter.buf;
+        iter.fieldStart = iter.head;
+        iter.fieldEnd = end;
+        iter.head = end + 1;
         if (readByte(iter) != ':') {
             if (nextToken(iter) != ':') {
                 throw iter.reportError("readObjectFieldAsHash", "expect :");
@@ -40,6 +45,9 @@ class IterImpl {
     }
 
     public static final Slice readObjectFieldAsSlice(JsonIterator iter) throws IOException {
+        if (iter.in != null) {
+            return IterImplForStreaming.readObjectFieldAsSlice(iter);
+        }
         Slice field = readSlice(iter);
         if (nextToken(iter) != ':') {
             throw iter.reportError("readObjectFieldAsSlice", "expect : after object field");
@@ -48,6 +56,13 @@ class IterImpl {
     }
 
     final static void skipArray(JsonIterator iter) throws IOException {
+        if (iter.in != null) {
+            IterImplForStreaming.skipArray(iter);
+            return;
+        }
+        if (iter.index != null && iter.index.skip(iter)) {
+            return;
+        }
         int level = 1;
         for (int i = iter.head; i < iter.tail; i++) {
             switch (iter.buf[i]) {
@@ -74,6 +89,13 @@ class IterImpl {
     }
 
     final static void skipObject(JsonIterator iter) throws IOException {
+        if (iter.in != null) {
+            IterImplForStreaming.skipObject(iter);
+            return;
+        }
+        if (iter.index != null && iter.index.skip(iter)) {
+            return;
+        }
         int level = 1;
         for (int i = iter.head; i < iter.tail; i++) {
             switch (iter.buf[i]) {
@@ -100,6 +122,10 @@ class IterImpl {
     }
 
     final static void skipString(JsonIterator iter) throws IOException {
+        if (iter.in != null) {
+            IterImplForStreaming.skipString(iter);
+            return;
+        }
         int end = IterImplSkip.findStringEnd(iter);
         if (end == -1) {
             throw iter.reportError("skipString", "incomplete string");
@@ -109,6 +135,10 @@ class IterImpl {
     }
 
     final static void skipUntilBreak(JsonIterator iter) throws IOException {
+        if (iter.in != null) {
+            IterImplForStreaming.skipUntilBreak(iter);
+            return;
+        }
         // true, false, null, number
         for (int i = iter.head; i < iter.tail; i++) {
             byte c = iter.buf[i];
@@ -121,6 +151,9 @@ class IterImpl {
     }
 
     final static boolean skipNumber(JsonIterator iter) throws IOException {
+        if (iter.in != null) {
+            return IterImplForStreaming.skipNumber(iter);
+        }
         // true, false, null, number
         boolean dotFound = false;
         for (int i = iter.head; i < iter.tail; i++) {
@@ -140,6 +173,9 @@ class IterImpl {
 
     // read the bytes between " "
     public final static Slice readSlice(JsonIterator iter) throws IOException {
+        if (iter.in != null) {
+            return IterImplForStreaming.readSlice(iter);
+        }
         if (IterImpl.nextToken(iter) != '"') {
             throw iter.reportError("readSlice", "expect \" for string");
         }
@@ -155,9 +191,25 @@ class IterImpl {
     }
 
     final static byte nextToken(final JsonIterator iter) throws IOException {
+        if (iter.in != null) {
+            return IterImplForStreaming.nextToken(iter);
+        }
         int i = iter.head;
+        byte c = iter.buf[i++];
+        switch (c) {
+            case ' ':
+            case '\n':
+            case '\r':
+            case '\t':
+                break;
+            default:
+                iter.head = i;
+                return c;
+        }
+        // long run of white space is common in indented json, skip it word by word
+        i = IterImplScan.skipWhitespaces(iter, i, iter.tail);
         for (; ; ) {
-            byte c = iter.buf[i++];
+            c = iter.buf[i++];
             switch (c) {
                 case ' ':
                 case '\n':
@@ -172,10 +224,19 @@ class IterImpl {
     }
 
     final static byte readByte(JsonIterator iter) throws IOException {
+        if (iter.in != null) {
+            return IterImplForStreaming.readByte(iter);
+        }
         return iter.buf[iter.head++];
     }
 
     public static Any readAny(JsonIterator iter) throws IOException {
+        if (iter.in != null) {
+            return IterImplForStreaming.readAny(iter);
+        }
+        if (iter.buf == iter.reusableBuf) {
+            return readAnyCopied(iter);
+        }
         int start = iter.head;
         byte c = nextToken(iter);
         switch (c) {
@@ -193,10 +254,10 @@ class IterImpl {
                 return Any.wrap((Object) null);
             case '[':
                 skipArray(iter);
-                return Any.lazyArray(iter.buf, start, iter.head);
+                return Any.lazyArray(iter.buf, start, iter.head, iter.index);
             case '{':
                 skipObject(iter);
-                return Any.lazyObject(iter.buf, start, iter.head);
+                return Any.lazyObject(iter.buf, start, iter.head, iter.index);
             default:
                 if (skipNumber(iter)) {
                     return Any.lazyDouble(iter.buf, start, iter.head);
@@ -206,15 +267,37 @@ class IterImpl {
         }
     }
 
+    // reusableBuf will be overwritten by the next reset, lazy any must keep its own copy
+    private static Any readAnyCopied(JsonIterator iter) throws IOException {
+        int start = iter.head;
+        IterImplSkip.skip(iter);
+        byte[] copied = new byte[iter.head - start];
+        System.arraycopy(iter.buf, start, copied, 0, copied.length);
+        JsonIterator copiedIter = JsonIteratorPool.borrowJsonIterator();
+        copiedIter.reset(copied);
+        try {
+            return readAny(copiedIter);
+        } finally {
+            JsonIteratorPool.returnJsonIterator(copiedIter);
+        }
+    }
+
     public static void skipFixedBytes(JsonIterator iter, int n) throws IOException {
+        if (iter.in != null) {
+            IterImplForStreaming.skipFixedBytes(iter, n);
+            return;
+        }
         iter.head += n;
     }
 
     public final static boolean loadMore(JsonIterator iter) throws IOException {
-        return false;
+        return iter.in != null && IterImplForStreaming.loadMore(iter);
     }
 
     public final static int readStringSlowPath(JsonIterator iter, int j) throws IOException {
+        if (iter.in != null) {
+            return IterImplForStreaming.readStringSlowPath(iter, j);
+        }
         try {
             boolean isExpectingLowSurrogate = false;
             for (int i = iter.head; i < iter.tail; ) {
@@ -325,10 +408,6 @@ class IterImpl {
         }
     }
 
-    public static int updateStringCopyBound(final JsonIterator iter, final int bound) {
-        return bound;
-    }
-
     static final int readInt(final JsonIterator iter, final byte c) throws IOException {
         int ind = IterImplNumber.intDigits[c];
         if (ind == 0) {
@@ -450,42 +529,41 @@ class IterImpl {
     }
 
     static final double readDouble(final JsonIterator iter) throws IOException {
-        int oldHead = iter.head;
-        try {
-            try {
-                long value = IterImplNumber.readLong(iter); // without the dot & sign
-                if (iter.head == iter.tail) {
-                    return value;
-                }
-                byte c = iter.buf[iter.head];
-                if (c == '.') {
-                    iter.head++;
-                    int start = iter.head;
-                    c = iter.buf[iter.head++];
-                    long decimalPart = readLong(iter, c);
-                    if (decimalPart == Long.MIN_VALUE) {
-                        return IterImplForStreaming.readDoubleSlowPath(iter);
-                    }
-                    decimalPart = -decimalPart;
-                    int decimalPlaces = iter.head - start;
-                    if (decimalPlaces > 0 && decimalPlaces < IterImplNumber.POW10.length && (iter.head - oldHead) < 10) {
-                        return value + (decimalPart / (double) IterImplNumber.POW10[decimalPlaces]);
-                    } else {
-                        iter.head = oldHead;
-                        return IterImplForStreaming.readDoubleSlowPath(iter);
-                    }
-                } else {
-                    return value;
-                }
-            } finally {
-                if (iter.head < iter.tail && (iter.buf[iter.head] == 'e' || iter.buf[iter.head] == 'E')) {
-                    iter.head = oldHead;
-                    return IterImplForStreaming.readDoubleSlowPath(iter);
-                }
-            }
-        } catch (JsonException e) {
-            iter.head = oldHead;
+        double value = IterImplDouble.parse(iter, false, iter.in != null);
+        if (Double.isNaN(value)) {
             return IterImplForStreaming.readDoubleSlowPath(iter);
         }
+        return value;
+    }
+
+    static final float readFloat(final JsonIterator iter) throws IOException {
+        double value = IterImplDouble.parse(iter, true, iter.in != null);
+        if (Double.isNaN(value)) {
+            return IterImplForStreaming.readFloatSlowPath(iter);
+        }
+        return (float) value;
+    }
+
+    static final BigDecimal readBigDecimal(final JsonIterator iter) throws IOException {
+        BigDecimal value = IterImplBigNumber.parseBigDecimal(iter, iter.in != null);
+        if (value == null) {
+            return IterImplForStreaming.readBigDecimalSlowPath(iter);
+        }
+        return value;
+    }
+
+    static final long readFixedPoint(final JsonIterator iter, final int scale) throws IOException {
+        if (iter.in != null) {
+            return IterImplForStreaming.readFixedPoint(iter, scale);
+        }
+        return IterImplFixedPoint.parse(iter, scale, false);
+    }
+
+    static final BigInteger readBigInteger(final JsonIterator iter) throws IOException {
+        BigInteger value = IterImplBigNumber.parseBigInteger(iter, iter.in != null);
+        if (value == null) {
+            return IterImplForStreaming.readBigIntegerSlowPath(iter);
+        }
+        return value;
     }
 }
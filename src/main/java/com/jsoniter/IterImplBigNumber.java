@@ -0,0 +1,164 @@
+package com.jsoniter;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * BigDecimal and BigInteger from the bytes of the number, without copying to char[] or String.
+ * up to 18 digits the unscaled value is a long, longer ones are built 18 digits at a time
+ */
+class IterImplBigNumber {
+
+    private final static int CHUNK_DIGITS = 18;
+    private final static BigInteger[] POW10 = new BigInteger[CHUNK_DIGITS + 1];
+
+    static {
+        POW10[0] = BigInteger.ONE;
+        for (int i = 1; i < POW10.length; i++) {
+            POW10[i] = POW10[i - 1].multiply(BigInteger.TEN);
+        }
+    }
+
+    /**
+     * @return null if the slow path should be taken, iter.head is not moved in that case
+     */
+    static BigDecimal parseBigDecimal(JsonIterator iter, boolean streaming) {
+        byte[] buf = iter.buf;
+        int tail = iter.tail;
+        int i = iter.head;
+        boolean negative = i < tail && buf[i] == '-';
+        if (negative) {
+            i++;
+        }
+        int intStart = i;
+        long chunk = 0;
+        int chunkDigits = 0;
+        BigInteger big = null;
+        int scale = 0;
+        for (; i < tail; i++) {
+            int c = buf[i] - '0';
+            if (c < 0 || c > 9) {
+                break;
+            }
+            if (chunkDigits == CHUNK_DIGITS) {
+                big = append(big, chunk, chunkDigits);
+                chunk = 0;
+                chunkDigits = 0;
+            }
+            chunk = chunk * 10 + c;
+            chunkDigits++;
+        }
+        if (i == intStart || (buf[intStart] == '0' && i - intStart > 1)) {
+            // no digit or leading zero
+            return null;
+        }
+        if (i < tail && buf[i] == '.') {
+            i++;
+            int fractionStart = i;
+            for (; i < tail; i++) {
+                int c = buf[i] - '0';
+                if (c < 0 || c > 9) {
+                    break;
+                }
+                if (chunkDigits == CHUNK_DIGITS) {
+                    big = append(big, chunk, chunkDigits);
+                    chunk = 0;
+                    chunkDigits = 0;
+                }
+                chunk = chunk * 10 + c;
+                chunkDigits++;
+            }
+            scale = i - fractionStart;
+            if (scale == 0) {
+                return null;
+            }
+        }
+        if (i < tail && (buf[i] == 'e' || buf[i] == 'E')) {
+            i++;
+            boolean negativeExp = false;
+            if (i < tail && (buf[i] == '-' || buf[i] == '+')) {
+                negativeExp = buf[i] == '-';
+                i++;
+            }
+            int expStart = i;
+            long exp = 0;
+            for (; i < tail; i++) {
+                int c = buf[i] - '0';
+                if (c < 0 || c > 9) {
+                    break;
+                }
+                exp = exp * 10 + c;
+                if (exp > Integer.MAX_VALUE) {
+                    return null;
+                }
+            }
+            if (i == expStart) {
+                return null;
+            }
+            long newScale = negativeExp ? scale + exp : scale - exp;
+            if (newScale > Integer.MAX_VALUE || newScale < Integer.MIN_VALUE) {
+                return null;
+            }
+            scale = (int) newScale;
+        }
+        if (streaming && i == tail) {
+            return null;
+        }
+        iter.head = i;
+        if (big == null) {
+            return BigDecimal.valueOf(negative ? -chunk : chunk, scale);
+        }
+        big = append(big, chunk, chunkDigits);
+        return new BigDecimal(negative ? big.negate() : big, scale);
+    }
+
+    /**
+     * @return null if the slow path should be taken, iter.head is not moved in that case
+     */
+    static BigInteger parseBigInteger(JsonIterator iter, boolean streaming) {
+        byte[] buf = iter.buf;
+        int tail = iter.tail;
+        int i = iter.head;
+        boolean negative = i < tail && buf[i] == '-';
+        if (negative) {
+            i++;
+        }
+        int intStart = i;
+        long chunk = 0;
+        int chunkDigits = 0;
+        BigInteger big = null;
+        for (; i < tail; i++) {
+            int c = buf[i] - '0';
+            if (c < 0 || c > 9) {
+                break;
+            }
+            if (chunkDigits == CHUNK_DIGITS) {
+                big = append(big, chunk, chunkDigits);
+                chunk = 0;
+                chunkDigits = 0;
+            }
+            chunk = chunk * 10 + c;
+            chunkDigits++;
+        }
+        if (i == intStart || (buf[intStart] == '0' && i - intStart > 1)) {
+            return null;
+        }
+        if ((streaming && i == tail) || (i < tail && (buf[i] == '.' || buf[i] == 'e' || buf[i] == 'E'))) {
+            // a fraction or exponent is reported by the slow path
+            return null;
+        }
+        iter.head = i;
+        if (big == null) {
+            return BigInteger.valueOf(negative ? -chunk : chunk);
+        }
+        big = append(big, chunk, chunkDigits);
+        return negative ? big.negate() : big;
+    }
+
+    private static BigInteger append(BigInteger big, long chunk, int chunkDigits) {
+        if (big == null) {
+            return BigInteger.valueOf(chunk);
+        }
+        return big.multiply(POW10[chunkDigits]).add(BigInteger.valueOf(chunk));
+    }
+}
@@ -0,0 +1,235 @@
+package com.jsoniter;
+
+import java.math.BigInteger;
+
+/**
+ * correctly rounded double and float from the bytes of the number, without allocation.
+ * digits and the power of 10 that are exact doubles are combined by one multiplication or division (clinger),
+ * others by eisel-lemire with 128 bit powers of 10.
+ * more than 19 significant digits and the rare ambiguous cases are left to the slow path
+ */
+class IterImplDouble {
+
+    private final static int MIN_EXP10 = -348;
+    private final static int MAX_EXP10 = 347;
+    // 10^q = (POW10_HI[i] << 64 | POW10_LO[i]) * 2^(floor(q * log2(10)) - 127), truncated, i = q - MIN_EXP10
+    private final static long[] POW10_HI = new long[MAX_EXP10 - MIN_EXP10 + 1];
+    private final static long[] POW10_LO = new long[MAX_EXP10 - MIN_EXP10 + 1];
+    private final static double[] EXACT_POW10 = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+    private final static float[] EXACT_POW10_FLOAT = {
+            1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f};
+
+    static {
+        BigInteger pow10 = BigInteger.ONE;
+        for (int q = 0; q <= MAX_EXP10; q++) {
+            int bitLength = pow10.bitLength();
+            setPow10(q, bitLength > 128 ? pow10.shiftRight(bitLength - 128) : pow10.shiftLeft(128 - bitLength));
+            pow10 = pow10.multiply(BigInteger.TEN);
+        }
+        pow10 = BigInteger.TEN;
+        for (int q = -1; q >= MIN_EXP10; q--) {
+            // 2^(bitLength+127) / 10^-q is in (2^127, 2^128), 128 bits
+            setPow10(q, BigInteger.ONE.shiftLeft(pow10.bitLength() + 127).divide(pow10));
+            pow10 = pow10.multiply(BigInteger.TEN);
+        }
+    }
+
+    private static void setPow10(int q, BigInteger mantissa) {
+        POW10_HI[q - MIN_EXP10] = mantissa.shiftRight(64).longValue();
+        POW10_LO[q - MIN_EXP10] = mantissa.longValue();
+    }
+
+    /**
+     * @param iter      head is at the first digit, the sign has been read
+     * @param isFloat   round to float instead of double
+     * @param streaming the number might continue after tail
+     * @return NaN if the slow path should be taken, iter.head is not moved in that case
+     */
+    static double parse(JsonIterator iter, boolean isFloat, boolean streaming) {
+        byte[] buf = iter.buf;
+        int tail = iter.tail;
+        int i = iter.head;
+        if (i == tail) {
+            return Double.NaN;
+        }
+        long mantissa = 0;
+        int digits = 0; // significant digits in mantissa
+        int exp10 = 0;
+        boolean truncated = false;
+        int c = buf[i] - '0';
+        if (c == 0) {
+            i++;
+            if (i < tail && buf[i] >= '0' && buf[i] <= '9') {
+                return Double.NaN; // leading zero
+            }
+        } else if (c > 0 && c <= 9) {
+            for (; i < tail; i++) {
+                c = buf[i] - '0';
+                if (c < 0 || c > 9) {
+                    break;
+                }
+                if (digits < 19) {
+                    mantissa = mantissa * 10 + c;
+                    digits++;
+                } else {
+                    exp10++;
+                    truncated |= c != 0;
+                }
+            }
+        } else {
+            return Double.NaN;
+        }
+        if (i < tail && buf[i] == '.') {
+            i++;
+            int fractionStart = i;
+            for (; i < tail; i++) {
+                c = buf[i] - '0';
+                if (c < 0 || c > 9) {
+                    break;
+                }
+                if (digits < 19) {
+                    mantissa = mantissa * 10 + c;
+                    if (mantissa != 0) {
+                        digits++;
+                    }
+                    exp10--;
+                } else {
+                    truncated |= c != 0;
+                }
+            }
+            if (i == fractionStart) {
+                return Double.NaN;
+            }
+        }
+        if (i < tail && (buf[i] == 'e' || buf[i] == 'E')) {
+            i++;
+            boolean negativeExp = false;
+            if (i < tail && (buf[i] == '-' || buf[i] == '+')) {
+                negativeExp = buf[i] == '-';
+                i++;
+            }
+            int expStart = i;
+            int exp = 0;
+            for (; i < tail; i++) {
+                c = buf[i] - '0';
+                if (c < 0 || c > 9) {
+                    break;
+                }
+                if (exp < 100000) {
+                    exp = exp * 10 + c;
+                }
+            }
+            if (i == expStart) {
+                return Double.NaN;
+            }
+            exp10 += negativeExp ? -exp : exp;
+        }
+        if ((streaming && i == tail) || truncated) {
+            return Double.NaN;
+        }
+        double value = isFloat ? toFloat(mantissa, exp10) : toDouble(mantissa, exp10);
+        if (value == value) {
+            iter.head = i;
+        }
+        return value;
+    }
+
+    private static double toDouble(long mantissa, int exp10) {
+        if (mantissa == 0) {
+            return 0;
+        }
+        if (exp10 >= -22 && exp10 <= 22 && mantissa >= 0 && mantissa <= (1L << 53)) {
+            double d = mantissa;
+            return exp10 < 0 ? d / EXACT_POW10[-exp10] : d * EXACT_POW10[exp10];
+        }
+        if (exp10 < MIN_EXP10) {
+            return 0;
+        }
+        if (exp10 > MAX_EXP10) {
+            return Double.POSITIVE_INFINITY;
+        }
+        long bits = eiselLemire(mantissa, exp10, 52, 1023, 0x7FF);
+        return bits == -1 ? Double.NaN : Double.longBitsToDouble(bits);
+    }
+
+    private static double toFloat(long mantissa, int exp10) {
+        if (mantissa == 0) {
+            return 0;
+        }
+        if (exp10 >= -10 && exp10 <= 10 && mantissa >= 0 && mantissa <= (1L << 24)) {
+            float f = mantissa;
+            return exp10 < 0 ? f / EXACT_POW10_FLOAT[-exp10] : f * EXACT_POW10_FLOAT[exp10];
+        }
+        if (exp10 < MIN_EXP10) {
+            return 0;
+        }
+        if (exp10 > MAX_EXP10) {
+            return Float.POSITIVE_INFINITY;
+        }
+        long bits = eiselLemire(mantissa, exp10, 23, 127, 0xFF);
+        return bits == -1 ? Double.NaN : Float.intBitsToFloat((int) bits);
+    }
+
+    // bits of the float or double nearest to mantissa * 10^exp10, -1 if it can not be decided here
+    private static long eiselLemire(long mantissa, int exp10, int mantissaBits, int bias, int maxExp2) {
+        // the product has 1 or 0 leading zero, keep mantissaBits + 1 bits plus one to round
+        int shift = 64 - mantissaBits - 3;
+        long mask = (1L << shift) - 1;
+        int leadingZeros = Long.numberOfLeadingZeros(mantissa);
+        mantissa <<= leadingZeros;
+        long exp2 = ((217706 * exp10) >> 16) + 64 + bias - leadingZeros;
+        int index = exp10 - MIN_EXP10;
+        long hi = multiplyHigh(mantissa, POW10_HI[index]);
+        long lo = mantissa * POW10_HI[index];
+        if ((hi & mask) == mask && unsignedLess(lo + mantissa, mantissa)) {
+            // the truncated power of 10 is not precise enough, take its lower 64 bits into account
+            long loHi = multiplyHigh(mantissa, POW10_LO[index]);
+            long loLo = mantissa * POW10_LO[index];
+            long mergedHi = hi;
+            long mergedLo = lo + loHi;
+            if (unsignedLess(mergedLo, lo)) {
+                mergedHi++;
+            }
+            if ((mergedHi & mask) == mask && mergedLo + 1 == 0 && unsignedLess(loLo + mantissa, mantissa)) {
+                return -1;
+            }
+            hi = mergedHi;
+            lo = mergedLo;
+        }
+        long msb = hi >>> 63;
+        long bits = hi >>> (msb + shift);
+        exp2 -= 1 ^ msb;
+        if (lo == 0 && (hi & mask) == 0 && (bits & 3) == 1) {
+            // exactly half way, round to even can not be decided from the truncated power
+            return -1;
+        }
+        bits += bits & 1;
+        bits >>>= 1;
+        if ((bits >>> (mantissaBits + 1)) > 0) {
+            bits >>>= 1;
+            exp2++;
+        }
+        if (exp2 <= 0 || exp2 >= maxExp2) {
+            // subnormal or infinity
+            return -1;
+        }
+        return exp2 << mantissaBits | (bits & ((1L << mantissaBits) - 1));
+    }
+
+    // high 64 bits of the unsigned 128 bit product
+    private static long multiplyHigh(long x, long y) {
+        long x0 = x & 0xFFFFFFFFL;
+        long x1 = x >>> 32;
+        long y0 = y & 0xFFFFFFFFL;
+        long y1 = y >>> 32;
+        long t = x1 * y0 + ((x0 * y0) >>> 32);
+        long w1 = x0 * y1 + (t & 0xFFFFFFFFL);
+        return x1 * y1 + (t >>> 32) + (w1 >>> 32);
+    }
+
+    private static boolean unsignedLess(long a, long b) {
+        return (a ^ Long.MIN_VALUE) < (b ^ Long.MIN_VALUE);
+    }
+}
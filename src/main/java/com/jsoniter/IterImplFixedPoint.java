@@ -0,0 +1,165 @@
+package com.jsoniter;
+
+/**
+ * decimal read into a long scaled by 10^scale, from the bytes of the number.
+ * the digits are accumulated then shifted to the scale, past 18 digits trailing zeros are held back,
+ * so nothing is rounded: digits below the scale or a value out of long range is an error
+ */
+class IterImplFixedPoint {
+
+    private final static long[] POW10 = new long[19];
+
+    static {
+        POW10[0] = 1;
+        for (int i = 1; i < POW10.length; i++) {
+            POW10[i] = POW10[i - 1] * 10;
+        }
+    }
+
+    /**
+     * @param scale     digits after the decimal point, 0~18
+     * @param streaming the number might continue after tail
+     * @return Long.MIN_VALUE if the slow path should be taken, iter.head is not moved in that case
+     */
+    static long parse(JsonIterator iter, int scale, boolean streaming) {
+        byte[] buf = iter.buf;
+        int tail = iter.tail;
+        int i = iter.head;
+        boolean negative = i < tail && buf[i] == '-';
+        if (negative) {
+            i++;
+        }
+        // value = -unscaled 10^(pendingZeros + exp10), kept negative to reach Long.MIN_VALUE
+        long unscaled = 0;
+        int digits = 0; // significant digits in unscaled
+        int pendingZeros = 0;
+        int exp10 = 0;
+        int intStart = i;
+        for (; i < tail; i++) {
+            int c = buf[i] - '0';
+            if (c < 0 || c > 9) {
+                break;
+            }
+            if (digits < 18) {
+                // can not overflow
+                unscaled = unscaled * 10 - c;
+                if (unscaled != 0) {
+                    digits++;
+                }
+            } else if (c == 0) {
+                pendingZeros++;
+            } else {
+                unscaled = append(iter, unscaled, pendingZeros, c);
+                pendingZeros = 0;
+            }
+        }
+        if (i == intStart) {
+            if (streaming && i == tail) {
+                return Long.MIN_VALUE;
+            }
+            throw iter.reportError("readFixedPoint", "expect 0~9");
+        }
+        if (buf[intStart] == '0' && i - intStart > 1) {
+            throw iter.reportError("readFixedPoint", "leading zero is invalid");
+        }
+        if (i < tail && buf[i] == '.') {
+            i++;
+            int fractionStart = i;
+            for (; i < tail; i++) {
+                int c = buf[i] - '0';
+                if (c < 0 || c > 9) {
+                    break;
+                }
+                exp10--;
+                if (digits < 18) {
+                    unscaled = unscaled * 10 - c;
+                    if (unscaled != 0) {
+                        digits++;
+                    }
+                } else if (c == 0) {
+                    pendingZeros++;
+                } else {
+                    unscaled = append(iter, unscaled, pendingZeros, c);
+                    pendingZeros = 0;
+                }
+            }
+            if (i == fractionStart) {
+                if (streaming && i == tail) {
+                    return Long.MIN_VALUE;
+                }
+                throw iter.reportError("readFixedPoint", "expect 0~9 after .");
+            }
+        }
+        if (i < tail && (buf[i] == 'e' || buf[i] == 'E')) {
+            i++;
+            boolean negativeExp = false;
+            if (i < tail && (buf[i] == '-' || buf[i] == '+')) {
+                negativeExp = buf[i] == '-';
+                i++;
+            }
+            int expStart = i;
+            int exp = 0;
+            for (; i < tail; i++) {
+                int c = buf[i] - '0';
+                if (c < 0 || c > 9) {
+                    break;
+                }
+                if (exp < 100000) {
+                    exp = exp * 10 + c;
+                }
+            }
+            if (i == expStart) {
+                if (streaming && i == tail) {
+                    return Long.MIN_VALUE;
+                }
+                throw iter.reportError("readFixedPoint", "expect 0~9 after e");
+            }
+            exp10 += negativeExp ? -exp : exp;
+        }
+        if (streaming && i == tail) {
+            return Long.MIN_VALUE;
+        }
+        long value = scale(iter, unscaled, pendingZeros + exp10 + scale);
+        if (!negative) {
+            if (value == Long.MIN_VALUE) {
+                throw iter.reportError("readFixedPoint", "value is too large for long");
+            }
+            value = -value;
+        } else if (streaming && value == Long.MIN_VALUE) {
+            // same as the slow path signal, let the slow path read it again
+            return Long.MIN_VALUE;
+        }
+        iter.head = i;
+        return value;
+    }
+
+    // -unscaled 10^zeros - c, unscaled is not positive
+    private static long append(JsonIterator iter, long unscaled, int zeros, int c) {
+        for (; zeros >= 0; zeros--) {
+            if (unscaled < Long.MIN_VALUE / 10) {
+                throw iter.reportError("readFixedPoint", "value is too large for long");
+            }
+            unscaled *= 10;
+        }
+        if (unscaled < Long.MIN_VALUE + c) {
+            throw iter.reportError("readFixedPoint", "value is too large for long");
+        }
+        return unscaled - c;
+    }
+
+    private static long scale(JsonIterator iter, long unscaled, int shift) {
+        if (unscaled == 0) {
+            return 0;
+        }
+        if (shift < 0) {
+            if (shift < -18 || unscaled % POW10[-shift] != 0) {
+                throw iter.reportError("readFixedPoint", "precision loss, more digits than the scale");
+            }
+            return unscaled / POW10[-shift];
+        }
+        if (shift >= POW10.length || unscaled < Long.MIN_VALUE / POW10[shift]) {
+            throw iter.reportError("readFixedPoint", "value is too large for long");
+        }
+        return unscaled * POW10[shift];
+    }
+}
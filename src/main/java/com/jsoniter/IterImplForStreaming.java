@@ -5,6 +5,8 @@ import com.jsoniter.spi.JsonException;
 import com.jsoniter.spi.Slice;
 
 import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 
 class IterImplForStreaming {
 
@@ -13,6 +15,11 @@ class IterImplForStreaming {
             throw iter.reportError("readObjectFieldAsHash", "expect \"");
         }
         long hash = 0x811c9dc5;
+        byte[] field = iter.reusableFieldBytes;
+        if (field == null) {
+            field = iter.reusableFieldBytes = new byte[32];
+        }
+        int len = 0;
         for (; ; ) {
             byte c = 0;
             int i = iter.head;
@@ -23,8 +30,17 @@ class IterImplForStreaming {
                 }
                 hash ^= c;
                 hash *= 0x1000193;
+                if (len == field.length) {
+                    byte[] newField = new byte[field.length * 2];
+                    System.arraycopy(field, 0, newField, 0, len);
+                    field = iter.reusableFieldBytes = newField;
+                }
+                field[len++] = c;
             }
             if (c == '"') {
+                iter.fieldBuf = field;
+                iter.fieldStart = 0;
+                iter.fieldEnd = len;
                 iter.head = i + 1;
                 if (nextToken(iter) != ':') {
                     throw iter.reportError("readObjectFieldAsHash", "expect :");
@@ -367,7 +383,8 @@ class IterImplForStreaming {
 
     public static void skipFixedBytes(JsonIterator iter, int n) throws IOException {
         iter.head += n;
-        if (iter.head >= iter.tail) {
+        // the bytes to skip might span more than one load when the buffer is small
+        while (iter.head >= iter.tail) {
             int more = iter.head - iter.tail;
             if (!loadMore(iter)) {
                 if (more == 0) {
@@ -380,14 +397,6 @@ class IterImplForStreaming {
         }
     }
 
-    public static int updateStringCopyBound(final JsonIterator iter, final int bound) {
-        if (bound > iter.tail - iter.head) {
-            return iter.tail - iter.head;
-        } else {
-            return bound;
-        }
-    }
-
     public final static int readStringSlowPath(JsonIterator iter, int j) throws IOException {
         boolean isExpectingLowSurrogate = false;
         for (;;) {
@@ -562,6 +571,19 @@ class IterImplForStreaming {
         }
     }
 
+    public static final float readFloatSlowPath(final JsonIterator iter) throws IOException {
+        numberChars numberChars = readNumber(iter);
+        if (numberChars.charsLength == 0) {
+            // nothing is read, infinity or error
+            return (float) readDoubleSlowPath(iter);
+        }
+        try {
+            return Float.valueOf(new String(numberChars.chars, 0, numberChars.charsLength));
+        } catch (NumberFormatException e) {
+            throw iter.reportError("readFloatSlowPath", e.toString());
+        }
+    }
+
     static class numberChars {
         char[] chars;
         int charsLength;
@@ -619,32 +641,36 @@ class IterImplForStreaming {
         }
     }
 
-    static final double readDouble(final JsonIterator iter) throws IOException {
-        return readDoubleSlowPath(iter);
+    static final long readFixedPoint(final JsonIterator iter, final int scale) throws IOException {
+        long value = IterImplFixedPoint.parse(iter, scale, true);
+        if (value == Long.MIN_VALUE) {
+            return readFixedPointSlowPath(iter, scale);
+        }
+        return value;
     }
 
-    static final long readLong(final JsonIterator iter, final byte c) throws IOException {
-        long ind = IterImplNumber.intDigits[c];
-        if (ind == 0) {
-            assertNotLeadingZero(iter);
-            return 0;
+    static final long readFixedPointSlowPath(final JsonIterator iter, final int scale) throws IOException {
+        numberChars numberChars = readNumber(iter);
+        byte[] bytes = new byte[numberChars.charsLength];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) numberChars.chars[i];
         }
-        if (ind == IterImplNumber.INVALID_CHAR_FOR_NUMBER) {
-            throw iter.reportError("readLong", "expect 0~9");
+        JsonIterator numberIter = JsonIterator.parse(bytes);
+        long value = IterImplFixedPoint.parse(numberIter, scale, false);
+        if (numberIter.head != bytes.length) {
+            throw iter.reportError("readFixedPoint", "invalid number: " + new String(numberChars.chars, 0, numberChars.charsLength));
         }
-        return IterImplForStreaming.readLongSlowPath(iter, ind);
+        return value;
     }
 
-    static final int readInt(final JsonIterator iter, final byte c) throws IOException {
-        int ind = IterImplNumber.intDigits[c];
-        if (ind == 0) {
-            assertNotLeadingZero(iter);
-            return 0;
-        }
-        if (ind == IterImplNumber.INVALID_CHAR_FOR_NUMBER) {
-            throw iter.reportError("readInt", "expect 0~9");
-        }
-        return IterImplForStreaming.readIntSlowPath(iter, ind);
+    static final BigDecimal readBigDecimalSlowPath(final JsonIterator iter) throws IOException {
+        numberChars numberChars = readNumber(iter);
+        return new BigDecimal(numberChars.chars, 0, numberChars.charsLength);
+    }
+
+    static final BigInteger readBigIntegerSlowPath(final JsonIterator iter) throws IOException {
+        numberChars numberChars = readNumber(iter);
+        return new BigInteger(new String(numberChars.chars, 0, numberChars.charsLength));
     }
 
     static void assertNotLeadingZero(JsonIterator iter) throws IOException {
@@ -40,10 +40,6 @@ class IterImplNumber {
     final static int END_OF_NUMBER = -2;
     final static int DOT_IN_NUMBER = -3;
     final static int INVALID_CHAR_FOR_NUMBER = -1;
-    static final long POW10[] = {
-            1, 10, 100, 1000, 10000, 100000, 1000000, 10000000, 100000000,
-            1000000000, 10000000000L, 100000000000L, 1000000000000L,
-            10000000000000L, 100000000000000L, 1000000000000000L};
 
     static {
         for (int i = 0; i < floatDigits.length; i++) {
@@ -72,7 +68,13 @@ class IterImplNumber {
     }
 
     public static final float readFloat(final JsonIterator iter) throws IOException {
-        return (float) IterImplNumber.readDouble(iter);
+        final byte c = IterImpl.nextToken(iter);
+        if (c == '-') {
+            return -IterImpl.readFloat(iter);
+        } else {
+            iter.unreadByte();
+            return IterImpl.readFloat(iter);
+        }
     }
 
     public static final int readInt(final JsonIterator iter) throws IOException {
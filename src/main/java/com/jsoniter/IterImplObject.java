@@ -1,5 +1,7 @@
 package com.jsoniter;
 
+import com.jsoniter.spi.SymbolTable;
+
 import java.io.IOException;
 
 class IterImplObject {
@@ -14,7 +16,7 @@ class IterImplObject {
                 c = IterImpl.nextToken(iter);
                 if (c == '"') {
                     iter.unreadByte();
-                    String field = iter.readString();
+                    String field = IterImplString.readKey(iter);
                     if (IterImpl.nextToken(iter) != ':') {
                         throw iter.reportError("readObject", "expect :");
                     }
@@ -25,7 +27,7 @@ class IterImplObject {
                 }
                 throw iter.reportError("readObject", "expect \" after {");
             case ',':
-                String field = iter.readString();
+                String field = IterImplString.readKey(iter);
                 if (IterImpl.nextToken(iter) != ':') {
                     throw iter.reportError("readObject", "expect :");
                 }
@@ -37,13 +39,43 @@ class IterImplObject {
         }
     }
 
+    public static final int readObjectSymbol(JsonIterator iter, SymbolTable symbols) throws IOException {
+        byte c = IterImpl.nextToken(iter);
+        switch (c) {
+            case 'n':
+                IterImpl.skipFixedBytes(iter, 3);
+                return SymbolTable.END_OF_OBJECT;
+            case '{':
+                c = IterImpl.nextToken(iter);
+                if (c == '}') {
+                    return SymbolTable.END_OF_OBJECT;
+                }
+                if (c != '"') {
+                    throw iter.reportError("readObjectSymbol", "expect \" after {");
+                }
+                iter.unreadByte();
+                break;
+            case ',':
+                break;
+            case '}':
+                return SymbolTable.END_OF_OBJECT;
+            default:
+                throw iter.reportError("readObjectSymbol", "expect { or , or } or n, but found: " + (char) c);
+        }
+        int id = IterImplString.readKeySymbol(iter, symbols);
+        if (IterImpl.nextToken(iter) != ':') {
+            throw iter.reportError("readObjectSymbol", "expect :");
+        }
+        return id;
+    }
+
     public static final boolean readObjectCB(JsonIterator iter, JsonIterator.ReadObjectCallback cb, Object attachment) throws IOException {
         byte c = IterImpl.nextToken(iter);
         if ('{' == c) {
             c = IterImpl.nextToken(iter);
             if ('"' == c) {
                 iter.unreadByte();
-                String field = iter.readString();
+                String field = IterImplString.readKey(iter);
                 if (IterImpl.nextToken(iter) != ':') {
                     throw iter.reportError("readObject", "expect :");
                 }
@@ -51,7 +83,7 @@ class IterImplObject {
                     return false;
                 }
                 while (IterImpl.nextToken(iter) == ',') {
-                    field = iter.readString();
+                    field = IterImplString.readKey(iter);
                     if (IterImpl.nextToken(iter) != ':') {
                         throw iter.reportError("readObject", "expect :");
                     }
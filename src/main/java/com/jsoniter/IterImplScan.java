@@ -0,0 +1,121 @@
+package com.jsoniter;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+// scan the byte[] 8 bytes a time (SWAR, simd within a register)
+// each word is read little-endian, so the lowest marked bit points to the first interesting byte
+class IterImplScan {
+
+    private final static long ONES = 0x0101010101010101L;
+    private final static long LOW_BITS = 0x7F7F7F7F7F7F7F7FL;
+    private final static long HIGH_BITS = 0x8080808080808080L;
+    private final static long QUOTES = ONES * '"';
+    private final static long BACKSLASHES = ONES * '\\';
+    private final static long SPACES = ONES * ' ';
+    private final static long TABS = ONES * '\t';
+    private final static long NEW_LINES = ONES * '\n';
+    private final static long CARRIAGE_RETURNS = ONES * '\r';
+
+    // heap ByteBuffer.getLong is intrinsified to a single unaligned load by modern jvm
+    final static ByteBuffer words(final JsonIterator iter) {
+        ByteBuffer words = iter.words;
+        if (words == null || words.array() != iter.buf) {
+            words = ByteBuffer.wrap(iter.buf).order(ByteOrder.LITTLE_ENDIAN);
+            iter.words = words;
+        }
+        return words;
+    }
+
+    // set the high bit of every byte equal to the byte in pattern, exact (no false positive caused by borrow)
+    private static long eq(final long word, final long pattern) {
+        long x = word ^ pattern;
+        return ~(((x & LOW_BITS) + LOW_BITS) | x | LOW_BITS);
+    }
+
+    private static int firstMarked(final long marks) {
+        return Long.numberOfTrailingZeros(marks) >>> 3;
+    }
+
+    /**
+     * find the first " or \ or byte with high bit set (utf-8 multi-bytes) from i
+     *
+     * @return index of the byte, or tail if not found
+     */
+    final static int findQuoteOrEscape(final JsonIterator iter, int i, final int tail) {
+        if (i + 8 <= tail) {
+            ByteBuffer words = words(iter);
+            for (; i + 8 <= tail; i += 8) {
+                long word = words.getLong(i);
+                long marks = eq(word, QUOTES) | eq(word, BACKSLASHES) | (word & HIGH_BITS);
+                if (marks != 0) {
+                    return i + firstMarked(marks);
+                }
+            }
+        }
+        byte[] buf = iter.buf;
+        for (; i < tail; i++) {
+            byte c = buf[i];
+            if (c == '"' || c == '\\' || c < 0) {
+                return i;
+            }
+        }
+        return tail;
+    }
+
+    /**
+     * find the first " from i, escape is not considered
+     *
+     * @return index of the byte, or tail if not found
+     */
+    final static int findQuote(final JsonIterator iter, int i, final int tail) {
+        if (i + 8 <= tail) {
+            ByteBuffer words = words(iter);
+            for (; i + 8 <= tail; i += 8) {
+                long marks = eq(words.getLong(i), QUOTES);
+                if (marks != 0) {
+                    return i + firstMarked(marks);
+                }
+            }
+        }
+        byte[] buf = iter.buf;
+        for (; i < tail; i++) {
+            if (buf[i] == '"') {
+                return i;
+            }
+        }
+        return tail;
+    }
+
+    /**
+     * skip space, \t, \n, \r from i
+     *
+     * @return index of the first byte not white space, or tail if all white space
+     */
+    final static int skipWhitespaces(final JsonIterator iter, int i, final int tail) {
+        if (i + 8 <= tail) {
+            ByteBuffer words = words(iter);
+            for (; i + 8 <= tail; i += 8) {
+                long word = words.getLong(i);
+                long whitespaces = eq(word, SPACES) | eq(word, NEW_LINES) | eq(word, TABS) | eq(word, CARRIAGE_RETURNS);
+                long others = ~whitespaces & HIGH_BITS;
+                if (others != 0) {
+                    return i + firstMarked(others);
+                }
+            }
+        }
+        byte[] buf = iter.buf;
+        for (; i < tail; i++) {
+            switch (buf[i]) {
+                case ' ':
+                case '\n':
+                case '\r':
+                case '\t':
+                    continue;
+                default:
+                    return i;
+            }
+        }
+        return tail;
+    }
+}
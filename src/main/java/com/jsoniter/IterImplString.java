@@ -31,6 +31,10 @@ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
  */
 package com.jsoniter;
 
+import com.jsoniter.spi.AsciiHelper;
+import com.jsoniter.spi.StringCache;
+import com.jsoniter.spi.SymbolTable;
+
 import java.io.IOException;
 
 class IterImplString {
@@ -61,37 +65,102 @@ class IterImplString {
             }
             throw iter.reportError("readString", "expect string or null, but " + (char) c);
         }
-        int j = parse(iter);
+        int start = iter.head;
+        int end = findAsciiEnd(iter, start);
+        if (end >= 0) {
+            // every byte is a char, on jdk9+ compact strings keep the bytes as latin-1 with a single array copy
+            return AsciiHelper.newString(iter.buf, start, end);
+        }
+        int j = parse(iter, start, -1 - end);
         return new String(iter.reusableChars, 0, j);
     }
 
-    private static int parse(JsonIterator iter) throws IOException {
-        byte c;// try fast path first
-        int i = iter.head;
-        // this code will trigger jvm hotspot pattern matching to highly optimized assembly
-        int bound = iter.reusableChars.length;
-        bound = IterImpl.updateStringCopyBound(iter, bound);
-        for(int j = 0; j < bound; j++) {
-            c = iter.buf[i++];
-            if (c == '"') {
-                iter.head = i;
-                return j;
-            }
-            // If we encounter a backslash, which is a beginning of an escape sequence
-            // or a high bit was set - indicating an UTF-8 encoded multibyte character,
-            // there is no chance that we can decode the string without instantiating
-            // a temporary buffer, so quit this loop
-            if ((c ^ '\\') < 1) {
-                break;
-            }
-            iter.reusableChars[j] = (char) c;
+    /**
+     * fast path of a string value after its opening quote: find the first " or \ or utf-8 byte 8 bytes a time.
+     * if the value is ascii without escape and complete in the buffer, head is moved after its closing quote
+     *
+     * @return the end of the ascii value, or -1 - end of the ascii prefix to be decoded by parse
+     */
+    private static int findAsciiEnd(JsonIterator iter, int start) {
+        int end = IterImplScan.findQuoteOrEscape(iter, start, iter.tail);
+        if (end < iter.tail && iter.buf[end] == '"') {
+            iter.head = end + 1;
+            return end;
+        }
+        return -1 - end;
+    }
+
+    /**
+     * read a string value, an ascii value without escape is the canonical instance from the cache
+     */
+    static String readString(JsonIterator iter, StringCache cache) throws IOException {
+        byte c = IterImpl.nextToken(iter);
+        if (c != '"') {
+            iter.unreadByte();
+            return readString(iter);
+        }
+        int start = iter.head;
+        int end = findAsciiEnd(iter, start);
+        if (end >= 0) {
+            return cache.lookup(iter.buf, start, end);
+        }
+        int j = parse(iter, start, -1 - end);
+        return new String(iter.reusableChars, 0, j);
+    }
+
+    /**
+     * read the key of an object field, a short ascii key is the canonical instance from the symbol table
+     */
+    static String readKey(JsonIterator iter) throws IOException {
+        byte c = IterImpl.nextToken(iter);
+        if (c != '"') {
+            iter.unreadByte();
+            return readString(iter);
+        }
+        int start = iter.head;
+        int end = findAsciiEnd(iter, start);
+        if (end >= 0) {
+            return SymbolTable.SHARED.lookup(iter.buf, start, end);
         }
-        int alreadyCopied = 0;
-        if (i > iter.head) {
-            alreadyCopied = i - iter.head - 1;
-            iter.head = i - 1;
+        int j = parse(iter, start, -1 - end);
+        return new String(iter.reusableChars, 0, j);
+    }
+
+    /**
+     * read the key of an object field as its id in the symbol table, without building the String when it is ascii
+     */
+    static int readKeySymbol(JsonIterator iter, SymbolTable symbols) throws IOException {
+        byte c = IterImpl.nextToken(iter);
+        if (c != '"') {
+            throw iter.reportError("readKeySymbol", "expect \", but " + (char) c);
+        }
+        int start = iter.head;
+        int end = findAsciiEnd(iter, start);
+        if (end >= 0) {
+            return symbols.symbolId(iter.buf, start, end);
+        }
+        int j = parse(iter, start, -1 - end);
+        return symbols.symbolId(new String(iter.reusableChars, 0, j));
+    }
+
+    private static int parse(JsonIterator iter, int start, int end) throws IOException {
+        int len = end - start;
+        if (iter.reusableChars.length < len) {
+            iter.reusableChars = new char[Math.max(len, iter.reusableChars.length * 2)];
+        }
+        // this code will trigger jvm hotspot pattern matching to highly optimized assembly
+        byte[] buf = iter.buf;
+        char[] chars = iter.reusableChars;
+        for (int i = start, j = 0; i < end; i++, j++) {
+            chars[j] = (char) buf[i];
         }
-        return IterImpl.readStringSlowPath(iter, alreadyCopied);
+        iter.head = end;
+        // If we encounter a backslash, which is a beginning of an escape sequence
+        // or a high bit was set - indicating an UTF-8 encoded multibyte character,
+        // or reached the end of the buffer,
+        // there is no chance that we can decode the string without instantiating
+        // a temporary buffer, so continue with the slow path
+        return IterImpl.readStringSlowPath(iter, len);
     }
 
     public static int translateHex(final byte b) {
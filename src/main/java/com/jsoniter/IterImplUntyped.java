@@ -0,0 +1,199 @@
+package com.jsoniter;
+
+import com.jsoniter.spi.JsonException;
+import com.jsoniter.spi.JsoniterSpi;
+
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * untyped read, objects to Map, arrays to List, numbers to Integer, Long or Double.
+ * containers are filled in place instead of through callbacks,
+ * and numbers are classified and parsed from the bytes, without going through String
+ */
+class IterImplUntyped {
+
+    static Object read(JsonIterator iter) throws IOException {
+        // registered implementation of Map and List, same as binding to Map<String, Object> or List<Object>
+        return read(iter, JsoniterSpi.getTypeImplementation(Map.class), JsoniterSpi.getTypeImplementation(List.class));
+    }
+
+    private static Object read(JsonIterator iter, Class mapImpl, Class listImpl) throws IOException {
+        byte c = IterImpl.nextToken(iter);
+        switch (c) {
+            case '"':
+                iter.unreadByte();
+                return iter.readString();
+            case '-':
+            case '0':
+            case '1':
+            case '2':
+            case '3':
+            case '4':
+            case '5':
+            case '6':
+            case '7':
+            case '8':
+            case '9':
+                iter.unreadByte();
+                return readNumber(iter);
+            case 'n':
+                IterImpl.skipFixedBytes(iter, 3);
+                return null;
+            case 't':
+                IterImpl.skipFixedBytes(iter, 3);
+                return Boolean.TRUE;
+            case 'f':
+                IterImpl.skipFixedBytes(iter, 4);
+                return Boolean.FALSE;
+            case '[':
+                return readList(iter, mapImpl, listImpl);
+            case '{':
+                return readMap(iter, mapImpl, listImpl);
+            default:
+                throw iter.reportError("read", "unexpected value type: " + (char) c);
+        }
+    }
+
+    private static List readList(JsonIterator iter, Class mapImpl, Class listImpl) throws IOException {
+        List list = newList(listImpl);
+        byte c = IterImpl.nextToken(iter);
+        if (c == ']') {
+            return list;
+        }
+        iter.unreadByte();
+        do {
+            list.add(read(iter, mapImpl, listImpl));
+            c = IterImpl.nextToken(iter);
+        } while (c == ',');
+        if (c != ']') {
+            throw iter.reportError("read", "expect , or ]");
+        }
+        return list;
+    }
+
+    private static Map readMap(JsonIterator iter, Class mapImpl, Class listImpl) throws IOException {
+        Map map = newMap(mapImpl);
+        byte c = IterImpl.nextToken(iter);
+        if (c == '}') {
+            return map;
+        }
+        if (c != '"') {
+            throw iter.reportError("read", "expect \" after {");
+        }
+        iter.unreadByte();
+        do {
+            String field = IterImplString.readKey(iter);
+            if (IterImpl.nextToken(iter) != ':') {
+                throw iter.reportError("read", "expect :");
+            }
+            map.put(field, read(iter, mapImpl, listImpl));
+            c = IterImpl.nextToken(iter);
+        } while (c == ',');
+        if (c != '}') {
+            throw iter.reportError("read", "expect , or }");
+        }
+        return map;
+    }
+
+    private static List newList(Class listImpl) {
+        if (listImpl == null) {
+            return new ArrayList(4);
+        }
+        if (listImpl == ArrayList.class) {
+            return new ArrayList();
+        }
+        if (listImpl == LinkedList.class) {
+            return new LinkedList();
+        }
+        return (List) newInstance(listImpl);
+    }
+
+    private static Map newMap(Class mapImpl) {
+        if (mapImpl == null) {
+            return new HashMap(4);
+        }
+        if (mapImpl == HashMap.class) {
+            return new HashMap();
+        }
+        if (mapImpl == LinkedHashMap.class) {
+            return new LinkedHashMap();
+        }
+        if (mapImpl == TreeMap.class) {
+            return new TreeMap();
+        }
+        return (Map) newInstance(mapImpl);
+    }
+
+    private static Object newInstance(Class clazz) {
+        try {
+            return clazz.newInstance();
+        } catch (Exception e) {
+            throw new JsonException("failed to create " + clazz, e);
+        }
+    }
+
+    private static Object readNumber(JsonIterator iter) throws IOException {
+        byte[] buf = iter.buf;
+        int tail = iter.tail;
+        int i = iter.head;
+        boolean negative = buf[i] == '-';
+        if (negative) {
+            i++;
+        }
+        int start = i;
+        long value = 0;
+        // 18 digits can not overflow
+        for (int end = Math.min(tail, start + 18); i < end; i++) {
+            int c = buf[i] - '0';
+            if (c < 0 || c > 9) {
+                break;
+            }
+            value = value * 10 + c;
+        }
+        boolean complete = i < tail ? !isNumberChar(buf[i]) : iter.in == null;
+        if (complete && i > start && (buf[start] != '0' || i - start == 1)) {
+            iter.head = i;
+            if (negative) {
+                value = -value;
+            }
+            if (value == (int) value) {
+                return Integer.valueOf((int) value);
+            }
+            return Long.valueOf(value);
+        }
+        if (i < tail && (buf[i] == '.' || buf[i] == 'e' || buf[i] == 'E')) {
+            return Double.valueOf(iter.readDouble());
+        }
+        // more than 18 digits, leading zero, or the number continues after the buffer
+        return readNumberSlowPath(iter);
+    }
+
+    private static boolean isNumberChar(byte c) {
+        return (c >= '0' && c <= '9') || c == '.' || c == 'e' || c == 'E' || c == '-' || c == '+';
+    }
+
+    private static Object readNumberSlowPath(JsonIterator iter) throws IOException {
+        IterImplForStreaming.numberChars numberChars = IterImplForStreaming.readNumber(iter);
+        String numberStr = new String(numberChars.chars, 0, numberChars.charsLength);
+        Double number;
+        try {
+            number = Double.valueOf(numberStr);
+        } catch (NumberFormatException e) {
+            throw iter.reportError("read", e.toString());
+        }
+        if (numberChars.dotFound) {
+            return number;
+        }
+        try {
+            long longNumber = Long.parseLong(numberStr);
+            if (longNumber == (int) longNumber) {
+                return Integer.valueOf((int) longNumber);
+            }
+            return Long.valueOf(longNumber);
+        } catch (NumberFormatException e) {
+            // out of long range
+            return number;
+        }
+    }
+}
@@ -6,18 +6,18 @@ import com.jsoniter.spi.*;
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.Reader;
 import java.lang.reflect.Type;
 import java.math.BigDecimal;
 import java.math.BigInteger;
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 public class JsonIterator implements Closeable {
 
     public Config configCache;
-    private static boolean isStreamingEnabled = false;
     final static ValueType[] valueTypes = new ValueType[256];
     InputStream in;
     byte[] buf;
@@ -31,7 +31,16 @@ public class JsonIterator implements Closeable {
     Map<String, Object> tempObjects = null; // used in reflection object decoder
     final Slice reusableSlice = new Slice(null, 0, 0);
     char[] reusableChars = new char[32];
+    byte[] reusableBuf; // chars are encoded into it, reused by reset(CharSequence) and reset(Reader, int)
+    ByteBuffer words; // little-endian view of buf, used to scan 8 bytes a time
+    StructuralIndex index; // optional, built on buf to skip values without scanning them
+    int indexCursor; // the index entry likely to be skipped next
     Object existingObject = null; // the object should be bind to next
+    // bytes of the field name last read by readObjectFieldAsHash, hash dispatch verifies the name with them
+    byte[] fieldBuf;
+    int fieldStart;
+    int fieldEnd;
+    byte[] reusableFieldBytes; // streaming copies the field name into it, the buf might be reloaded
 
     static {
         for (int i = 0; i < valueTypes.length; i++) {
@@ -77,7 +86,6 @@ public class JsonIterator implements Closeable {
     }
 
     public static JsonIterator parse(InputStream in, int bufSize, int autoExpandBufferStep) {
-        enableStreamingSupport();
         return new JsonIterator(in, new byte[bufSize], autoExpandBufferStep);
     }
 
@@ -89,37 +97,156 @@ public class JsonIterator implements Closeable {
         return new JsonIterator(null, buf, head, tail);
     }
 
+    /**
+     * parse with a structural index built on the whole buf upfront,
+     * worth it when most of the input will be skipped or read as lazy any
+     *
+     * @param buf the json
+     * @return the iterator
+     */
+    public static JsonIterator parseWithIndex(byte[] buf) {
+        return parseWithIndex(buf, 0, buf.length);
+    }
+
+    public static JsonIterator parseWithIndex(byte[] buf, int head, int tail) {
+        JsonIterator iter = new JsonIterator(null, buf, head, tail);
+        iter.index = StructuralIndex.build(buf, head, tail);
+        return iter;
+    }
+
     public static JsonIterator parse(String str) {
-        return parse(str.getBytes());
+        return parse((CharSequence) str);
+    }
+
+    /**
+     * the chars are encoded as utf-8 into a byte[] of exact size, without String.getBytes
+     */
+    public static JsonIterator parse(CharSequence input) {
+        return parse(Utf8Chars.encode(input));
+    }
+
+    /**
+     * read chars through the streaming iterator, encoded as utf-8 one buffer at a time
+     *
+     * @param reader  the json
+     * @param bufSize chars read from the reader at once, also the initial size of the byte buffer
+     */
+    public static JsonIterator parse(Reader reader, int bufSize) {
+        return parse(new ReaderInputStream(reader, bufSize), bufSize);
     }
 
     public static JsonIterator parse(Slice slice) {
         return new JsonIterator(null, slice.data(), slice.head(), slice.tail());
     }
 
+    /**
+     * @param buf the json, a heap buffer read in place, see reset(ByteBuffer)
+     */
+    public static JsonIterator parse(ByteBuffer buf) {
+        JsonIterator iter = new JsonIterator();
+        iter.reset(buf);
+        return iter;
+    }
+
     public final void reset(byte[] buf) {
+        this.in = null;
         this.buf = buf;
         this.head = 0;
         this.tail = buf.length;
+        this.index = null;
     }
 
     public final void reset(byte[] buf, int head, int tail) {
+        this.in = null;
+        this.buf = buf;
+        this.head = head;
+        this.tail = tail;
+        this.index = null;
+    }
+
+    /**
+     * reset to read part of an already indexed byte[]
+     *
+     * @param buf   the json
+     * @param head  start position
+     * @param tail  end position
+     * @param index built on the same buf, null to read without index
+     */
+    public final void reset(byte[] buf, int head, int tail, StructuralIndex index) {
+        if (index != null && index.buf != buf) {
+            throw new JsonException("structural index is not built on this buffer");
+        }
+        this.in = null;
         this.buf = buf;
         this.head = head;
         this.tail = tail;
+        this.index = index;
+        this.indexCursor = 0;
     }
 
     public final void reset(Slice value) {
+        this.in = null;
         this.buf = value.data();
         this.head = value.head();
         this.tail = value.tail();
+        this.index = null;
+    }
+
+    /**
+     * read the remaining bytes of a heap buffer in place, its position and limit are not changed.
+     * only buffers backed by an accessible byte[] are supported, a direct or read only buffer must be copied
+     * into a byte[] by the caller
+     *
+     * @param buf the json, a heap buffer
+     */
+    public final void reset(ByteBuffer buf) {
+        if (!buf.hasArray()) {
+            throw new JsonException("only heap ByteBuffer is supported, copy direct or read only buffer into a byte[]");
+        }
+        reset(buf.array(), buf.arrayOffset() + buf.position(), buf.arrayOffset() + buf.limit());
+    }
+
+    /**
+     * the chars are encoded as utf-8 into a byte[] reused by this iterator
+     */
+    public final void reset(CharSequence input) {
+        int len = Utf8Chars.length(input);
+        if (reusableBuf == null || reusableBuf.length < len) {
+            reusableBuf = new byte[len];
+        }
+        Utf8Chars.encode(input, reusableBuf);
+        reset(reusableBuf, 0, len);
+    }
+
+    /**
+     * read chars through the streaming iterator, like parse(Reader, int).
+     * the bytes are encoded into a buffer owned by this iterator, never into a byte[] it was reset to before
+     *
+     * @param reader  the json
+     * @param bufSize chars read from the reader at once, also the initial size of the byte buffer
+     */
+    public final void reset(Reader reader, int bufSize) {
+        if (reusableBuf == null || reusableBuf.length < bufSize) {
+            reusableBuf = new byte[bufSize];
+        }
+        this.buf = reusableBuf;
+        this.autoExpandBufferStep = bufSize;
+        reset(new ReaderInputStream(reader, bufSize));
     }
 
     public final void reset(InputStream in) {
-        JsonIterator.enableStreamingSupport();
+        if (buf.length == 0) {
+            // pooled iterators drop the input they were reset to
+            buf = new byte[512];
+        }
         this.in = in;
         this.head = 0;
         this.tail = 0;
+        this.index = null;
+    }
+
+    public final StructuralIndex structuralIndex() {
+        return index;
     }
 
     public final void close() throws IOException {
@@ -222,6 +349,17 @@ public class JsonIterator implements Closeable {
         return IterImpl.readSlice(this);
     }
 
+    /**
+     * like readString, but a value seen before is returned as the instance in the cache
+     *
+     * @param cache canonical instances of the values
+     * @return the string, null if the value is null
+     * @throws IOException if the value is not string or null
+     */
+    public final String readString(StringCache cache) throws IOException {
+        return IterImplString.readString(this, cache);
+    }
+
     public final String readObject() throws IOException {
         return IterImplObject.readObject(this);
     }
@@ -230,6 +368,17 @@ public class JsonIterator implements Closeable {
         boolean handle(JsonIterator iter, String field, Object attachment) throws IOException;
     }
 
+    /**
+     * like readObject, but the field is returned as its id in the symbol table, the key String is not built
+     *
+     * @param symbols table the field names are registered in
+     * @return id of the field, SymbolTable.NOT_FOUND if not registered, SymbolTable.END_OF_OBJECT if no more field
+     * @throws IOException if the input is not an object
+     */
+    public final int readObjectSymbol(SymbolTable symbols) throws IOException {
+        return IterImplObject.readObjectSymbol(this, symbols);
+    }
+
     public final void readObjectCB(ReadObjectCallback cb, Object attachment) throws IOException {
         IterImplObject.readObjectCB(this, cb, attachment);
     }
@@ -252,8 +401,20 @@ public class JsonIterator implements Closeable {
         if (valueType != ValueType.NUMBER) {
             throw reportError("readBigDecimal", "not number");
         }
-        IterImplForStreaming.numberChars numberChars = IterImplForStreaming.readNumber(this);
-        return new BigDecimal(numberChars.chars, 0, numberChars.charsLength);
+        return IterImpl.readBigDecimal(this);
+    }
+
+    /**
+     * read a decimal as a long scaled by 10^scale, 12.34 is read as 1234 with scale 2
+     *
+     * @param scale digits after the decimal point, 0~18
+     * @return the scaled value
+     * @throws IOException when there are more digits than the scale or the value is out of range
+     */
+    public final long readFixedPoint(int scale) throws IOException {
+        IterImpl.nextToken(this);
+        unreadByte();
+        return IterImpl.readFixedPoint(this, scale);
     }
 
     public final BigInteger readBigInteger() throws IOException {
@@ -266,8 +427,7 @@ public class JsonIterator implements Closeable {
         if (valueType != ValueType.NUMBER) {
             throw reportError("readBigDecimal", "not number");
         }
-        IterImplForStreaming.numberChars numberChars = IterImplForStreaming.readNumber(this);
-        return new BigInteger(new String(numberChars.chars, 0, numberChars.charsLength));
+        return IterImpl.readBigInteger(this);
     }
 
     public final Any readAny() throws IOException {
@@ -278,62 +438,9 @@ public class JsonIterator implements Closeable {
         }
     }
 
-    private final static ReadArrayCallback fillArray = new ReadArrayCallback() {
-        @Override
-        public boolean handle(JsonIterator iter, Object attachment) throws IOException {
-            List list = (List) attachment;
-            list.add(iter.read());
-            return true;
-        }
-    };
-
-    private final static ReadObjectCallback fillObject = new ReadObjectCallback() {
-        @Override
-        public boolean handle(JsonIterator iter, String field, Object attachment) throws IOException {
-            Map map = (Map) attachment;
-            map.put(field, iter.read());
-            return true;
-        }
-    };
-
     public final Object read() throws IOException {
         try {
-            ValueType valueType = whatIsNext();
-            switch (valueType) {
-                case STRING:
-                    return readString();
-                case NUMBER:
-                    IterImplForStreaming.numberChars numberChars = IterImplForStreaming.readNumber(this);
-                    String numberStr = new String(numberChars.chars, 0, numberChars.charsLength);
-                    Double number = Double.valueOf(numberStr);
-                    if (numberChars.dotFound) {
-                        return number;
-                    }
-                    double doubleNumber = number;
-                    if (doubleNumber == Math.floor(doubleNumber) && !Double.isInfinite(doubleNumber)) {
-                        long longNumber = Long.valueOf(numberStr);
-                        if (longNumber <= Integer.MAX_VALUE && longNumber >= Integer.MIN_VALUE) {
-                            return (int) longNumber;
-                        }
-                        return longNumber;
-                    }
-                    return number;
-                case NULL:
-                    IterImpl.skipFixedBytes(this, 4);
-                    return null;
-                case BOOLEAN:
-                    return readBoolean();
-                case ARRAY:
-                    ArrayList list = new ArrayList(4);
-                    readArrayCB(fillArray, list);
-                    return list;
-                case OBJECT:
-                    Map map = new HashMap(4);
-                    readObjectCB(fillObject, map);
-                    return map;
-                default:
-                    throw reportError("read", "unexpected value type: " + valueType);
-            }
+            return IterImplUntyped.read(this);
         } catch (ArrayIndexOutOfBoundsException e) {
             throw reportError("read", "premature end");
         }
@@ -414,27 +521,48 @@ public class JsonIterator implements Closeable {
     public static final <T> T deserialize(Config config, String input, Class<T> clazz) {
         JsoniterSpi.setCurrentConfig(config);
         try {
-            return deserialize(input.getBytes(), clazz);
+            return deserialize(input, clazz);
         } finally {
             JsoniterSpi.clearCurrentConfig();
         }
     }
 
     public static final <T> T deserialize(String input, Class<T> clazz) {
-        return deserialize(input.getBytes(), clazz);
+        return (T) deserialize(input, (Type) clazz);
     }
 
     public static final <T> T deserialize(Config config, String input, TypeLiteral<T> typeLiteral) {
         JsoniterSpi.setCurrentConfig(config);
         try {
-            return deserialize(input.getBytes(), typeLiteral);
+            return deserialize(input, typeLiteral);
         } finally {
             JsoniterSpi.clearCurrentConfig();
         }
     }
 
     public static final <T> T deserialize(String input, TypeLiteral<T> typeLiteral) {
-        return deserialize(input.getBytes(), typeLiteral);
+        return (T) deserialize(input, typeLiteral.getType());
+    }
+
+    // chars are encoded into the byte[] of the pooled iterator, not copied by String.getBytes
+    private static Object deserialize(String input, Type type) {
+        JsonIterator iter = JsonIteratorPool.borrowJsonIterator();
+        iter.reset(input);
+        int lastNotSpacePos = findLastNotSpacePos(iter.buf, iter.tail);
+        iter.tail = lastNotSpacePos;
+        try {
+            Object val = iter.read(type);
+            if (iter.head != lastNotSpacePos) {
+                throw iter.reportError("deserialize", "trailing garbage found");
+            }
+            return val;
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw iter.reportError("deserialize", "premature end");
+        } catch (IOException e) {
+            throw new JsonException(e);
+        } finally {
+            JsonIteratorPool.returnJsonIterator(iter);
+        }
     }
 
     public static final <T> T deserialize(Config config, byte[] input, Class<T> clazz) {
@@ -493,17 +621,37 @@ public class JsonIterator implements Closeable {
         }
     }
 
+    /**
+     * bind the elements of a top-level array on multiple threads,
+     * element boundaries are found by a skip pass first, every worker binds a range of elements with its own iterator
+     *
+     * @param input       json array
+     * @param clazz       element type
+     * @param executor    runs the workers, owned by the caller and reused across calls
+     * @param parallelism number of workers, at least 1
+     * @param <T>         element type
+     * @return elements in input order
+     */
+    public static final <T> List<T> parallelReadArray(byte[] input, Class<T> clazz, ExecutorService executor, int parallelism) {
+        return (List<T>) ParallelArrayReader.read(input, clazz, executor, parallelism);
+    }
+
+    public static final <T> List<T> parallelReadArray(byte[] input, TypeLiteral<T> typeLiteral, ExecutorService executor, int parallelism) {
+        return (List<T>) ParallelArrayReader.read(input, typeLiteral.getType(), executor, parallelism);
+    }
+
     public static final Any deserialize(Config config, String input) {
         JsoniterSpi.setCurrentConfig(config);
         try {
-            return deserialize(input.getBytes());
+            return deserialize(input);
         } finally {
             JsoniterSpi.clearCurrentConfig();
         }
     }
 
     public static final Any deserialize(String input) {
-        return deserialize(input.getBytes());
+        // lazy any keeps the bytes, so they are not encoded into the pooled iterator
+        return deserialize(Utf8Chars.encode(input));
     }
 
     public static final Any deserialize(Config config, byte[] input) {
@@ -535,7 +683,11 @@ public class JsonIterator implements Closeable {
     }
 
     private static int findLastNotSpacePos(byte[] input) {
-        for (int i = input.length - 1; i >= 0; i--) {
+        return findLastNotSpacePos(input, input.length);
+    }
+
+    static int findLastNotSpacePos(byte[] input, int end) {
+        for (int i = end - 1; i >= 0; i--) {
             byte c = input[i];
             if (c != ' ' && c != '\t' && c != '\n' && c != '\r') {
                 return i + 1;
@@ -550,17 +702,12 @@ public class JsonIterator implements Closeable {
         JsoniterSpi.setCurrentConfig(newConfig);
     }
 
+    /**
+     * streaming is decided per iterator by its input, iterators of byte[] keep the fast path
+     *
+     * @deprecated nothing to enable, parse InputStream directly
+     */
+    @Deprecated
     public static void enableStreamingSupport() {
-        if (isStreamingEnabled) {
-            return;
-        }
-        isStreamingEnabled = true;
-        try {
-            DynamicCodegen.enableStreamingSupport();
-        }  catch (JsonException e) {
-            throw e;
-        } catch (Exception e) {
-            throw new JsonException(e);
-        }
     }
 }
@@ -1,35 +1,70 @@
 package com.jsoniter;
 
-public class JsonIteratorPool {
+import com.jsoniter.spi.JsoniterSpi;
+import com.jsoniter.spi.ObjectPool;
+import com.jsoniter.spi.PoolStrategy;
 
-    private static ThreadLocal<JsonIterator> slot1 = new ThreadLocal<JsonIterator>();
-    private static ThreadLocal<JsonIterator> slot2 = new ThreadLocal<JsonIterator>();
+public class JsonIteratorPool {
 
-    public static JsonIterator borrowJsonIterator() {
-        JsonIterator iter = slot1.get();
-        if (iter != null) {
-            slot1.set(null);
-            return iter;
+    private final static byte[] EMPTY = new byte[0];
+    private final static ObjectPool.Recycler<JsonIterator> RECYCLER = new ObjectPool.Recycler<JsonIterator>() {
+        @Override
+        public JsonIterator create() {
+            return JsonIterator.parse(new byte[512], 0, 0);
         }
-        iter = slot2.get();
-        if (iter != null) {
-            slot2.set(null);
-            return iter;
+
+        @Override
+        public boolean recycle(JsonIterator iter, int maxBufferSize) {
+            iter.configCache = null;
+            iter.existingObject = null;
+            if (iter.in != null && iter.buf.length <= maxBufferSize) {
+                // the buffer of streaming is owned by the iterator
+                iter.reset(iter.buf, 0, 0);
+            } else {
+                // not keeping the input alive
+                iter.reset(EMPTY);
+            }
+            // views and slices of the previous input, and values decoded from it
+            iter.words = null;
+            iter.fieldBuf = null;
+            iter.reusableSlice.reset(null, 0, 0);
+            iter.tempObjects = null;
+            if (iter.reusableBuf != null && iter.reusableBuf.length > maxBufferSize) {
+                iter.reusableBuf = null;
+            }
+            if (iter.reusableChars.length > maxBufferSize) {
+                iter.reusableChars = new char[32];
+            }
+            if (iter.reusableFieldBytes != null && iter.reusableFieldBytes.length > maxBufferSize) {
+                iter.reusableFieldBytes = null;
+            }
+            return true;
         }
-        iter = JsonIterator.parse(new byte[512], 0, 0);
-        return iter;
+    };
+    private static volatile PoolStrategy poolStrategy;
+    private static volatile ObjectPool<JsonIterator> pool;
+
+    public static JsonIterator borrowJsonIterator() {
+        return pool().borrow();
     }
 
     public static void returnJsonIterator(JsonIterator iter) {
-        iter.configCache = null;
-        iter.existingObject = null;
-        if (slot1.get() == null) {
-            slot1.set(iter);
-            return;
+        pool().release(iter);
+    }
+
+    private static ObjectPool<JsonIterator> pool() {
+        PoolStrategy strategy = JsoniterSpi.getPoolStrategy();
+        if (strategy != poolStrategy) {
+            return newPool(strategy);
         }
-        if (slot2.get() == null) {
-            slot2.set(iter);
-            return;
+        return pool;
+    }
+
+    private static synchronized ObjectPool<JsonIterator> newPool(PoolStrategy strategy) {
+        if (strategy != poolStrategy) {
+            pool = strategy.newPool(RECYCLER);
+            poolStrategy = strategy;
         }
+        return pool;
     }
 }
@@ -0,0 +1,215 @@
+package com.jsoniter;
+
+import com.jsoniter.spi.JsonException;
+import com.jsoniter.spi.Slice;
+import com.jsoniter.spi.TypeLiteral;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.util.NoSuchElementException;
+
+/**
+ * read newline delimited json (json lines), one record per line, blank lines are ignored.
+ * one iterator and one buffer are reused for all the records,
+ * so the slice or iterator of a record is only valid until the next record is read
+ */
+public class JsonLinesReader implements Closeable {
+
+    final static Object END = new Object();
+
+    private final InputStream in;
+    private final JsonIterator iter = new JsonIterator();
+    private final Slice line = new Slice(null, 0, 0);
+    private byte[] buf;
+    private int head; // start of the unread bytes
+    private int tail; // end of the bytes in buf
+    private boolean eof;
+    private boolean lineFound;
+    private boolean skipMalformed;
+    private long lineNumber;
+    private long malformedCount;
+
+    public JsonLinesReader(byte[] buf) {
+        this(buf, 0, buf.length);
+    }
+
+    public JsonLinesReader(byte[] buf, int head, int tail) {
+        this.in = null;
+        this.buf = buf;
+        this.head = head;
+        this.tail = tail;
+        this.eof = true;
+    }
+
+    public JsonLinesReader(InputStream in) {
+        this(in, 8192);
+    }
+
+    public JsonLinesReader(InputStream in, int bufSize) {
+        this.in = in;
+        this.buf = new byte[bufSize];
+    }
+
+    /**
+     * when enabled, next(Class) and next(TypeLiteral) skip the line that can not be bound instead of throwing
+     *
+     * @param skipMalformed true to skip
+     * @return this
+     */
+    public JsonLinesReader skipMalformed(boolean skipMalformed) {
+        this.skipMalformed = skipMalformed;
+        return this;
+    }
+
+    /**
+     * @return line number of the current record, starting from 1
+     */
+    public long lineNumber() {
+        return lineNumber;
+    }
+
+    public long malformedCount() {
+        return malformedCount;
+    }
+
+    public boolean hasNext() throws IOException {
+        if (lineFound) {
+            return true;
+        }
+        for (; ; ) {
+            int end = findLineEnd();
+            if (end == -1) {
+                return false;
+            }
+            lineNumber++;
+            int lineHead = head;
+            while (lineHead < end && isSpace(buf[lineHead])) {
+                lineHead++;
+            }
+            int lineTail = end;
+            while (lineTail > lineHead && isSpace(buf[lineTail - 1])) {
+                lineTail--;
+            }
+            head = end < tail ? end + 1 : end;
+            if (lineHead < lineTail) {
+                line.reset(buf, lineHead, lineTail);
+                lineFound = true;
+                return true;
+            }
+        }
+    }
+
+    // position of \n ending the line starting at head, or tail if the last line is not ended
+    private int findLineEnd() throws IOException {
+        int searchFrom = head;
+        for (; ; ) {
+            for (int i = searchFrom; i < tail; i++) {
+                if (buf[i] == '\n') {
+                    return i;
+                }
+            }
+            if (eof) {
+                return head < tail ? tail : -1;
+            }
+            searchFrom = tail - head;
+            loadMore();
+        }
+    }
+
+    private void loadMore() throws IOException {
+        // keep the incomplete line, move it to the beginning of buf
+        int remaining = tail - head;
+        if (remaining == buf.length) {
+            byte[] newBuf = new byte[buf.length * 2];
+            System.arraycopy(buf, head, newBuf, 0, remaining);
+            buf = newBuf;
+        } else if (head > 0) {
+            System.arraycopy(buf, head, buf, 0, remaining);
+        }
+        head = 0;
+        tail = remaining;
+        int n = in.read(buf, tail, buf.length - tail);
+        if (n == -1) {
+            eof = true;
+        } else {
+            tail += n;
+        }
+    }
+
+    private static boolean isSpace(byte c) {
+        return c == ' ' || c == '\t' || c == '\r';
+    }
+
+    /**
+     * @return raw bytes of the next record, without line break and surrounding white space
+     */
+    public Slice nextSlice() throws IOException {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        lineFound = false;
+        return line;
+    }
+
+    /**
+     * @return the iterator positioned at the beginning of the next record
+     */
+    public JsonIterator nextIterator() throws IOException {
+        Slice slice = nextSlice();
+        iter.reset(slice);
+        return iter;
+    }
+
+    /**
+     * bind the next record, when skipping malformed lines null is returned if all the lines left are malformed
+     */
+    public <T> T next(Class<T> clazz) throws IOException {
+        Object val = next((Type) clazz);
+        return val == END ? null : (T) val;
+    }
+
+    public <T> T next(TypeLiteral<T> typeLiteral) throws IOException {
+        Object val = next(typeLiteral.getType());
+        return val == END ? null : (T) val;
+    }
+
+    // END if all the lines left are malformed and skipped
+    final Object next(Type type) throws IOException {
+        for (; ; ) {
+            JsonIterator iter = nextIterator();
+            try {
+                Object val = iter.read(type);
+                if (iter.head > iter.tail) {
+                    // the byte[] path does not check tail, it has read into the following lines
+                    throw iter.reportError("JsonLinesReader", "premature end at line " + lineNumber);
+                }
+                for (int i = iter.head; i < iter.tail; i++) {
+                    if (!isSpace(iter.buf[i])) {
+                        throw iter.reportError("JsonLinesReader", "trailing garbage found at line " + lineNumber);
+                    }
+                }
+                return val;
+            } catch (ArrayIndexOutOfBoundsException e) {
+                if (!skipMalformed) {
+                    throw iter.reportError("JsonLinesReader", "premature end at line " + lineNumber);
+                }
+            } catch (JsonException e) {
+                if (!skipMalformed) {
+                    throw e;
+                }
+            }
+            malformedCount++;
+            if (!hasNext()) {
+                return END;
+            }
+        }
+    }
+
+    public void close() throws IOException {
+        if (in != null) {
+            in.close();
+        }
+    }
+}
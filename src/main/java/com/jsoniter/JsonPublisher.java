@@ -0,0 +1,231 @@
+package com.jsoniter;
+
+import com.jsoniter.spi.Config;
+import com.jsoniter.spi.JsoniterSpi;
+import com.jsoniter.spi.TypeLiteral;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * publish the elements of a top-level array, or a sequence of documents, decoded from an InputStream.
+ * the stream is read only when the subscriber requests elements, so memory is bounded by the buffer
+ * and the elements not consumed yet, not by the size of the input.
+ * the interfaces have the same shape as java.util.concurrent.Flow, which is not available before java 9,
+ * adapting to Flow or reactive streams is a one line delegation.
+ * the input can only be read once, so there is at most one subscriber.
+ * the input stream is closed when the publisher completes, fails or is cancelled
+ */
+public class JsonPublisher<T> {
+
+    public interface Subscriber<T> {
+        void onSubscribe(Subscription subscription);
+
+        void onNext(T item);
+
+        void onError(Throwable throwable);
+
+        void onComplete();
+    }
+
+    public interface Subscription {
+        void request(long n);
+
+        void cancel();
+    }
+
+    private final InputStream in;
+    private final int bufSize;
+    private final Type type;
+    private final boolean unwrapArray;
+    private final Executor executor;
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    /**
+     * @param in          the input, read only on demand
+     * @param bufSize     size of the read buffer, it grows to hold the largest element
+     * @param clazz       type of the element
+     * @param unwrapArray true if the input is one top-level array, false if the input is a sequence of documents
+     * @param executor    decodes and delivers the elements, null to do it in the thread calling request
+     */
+    public JsonPublisher(InputStream in, int bufSize, Class<T> clazz, boolean unwrapArray, Executor executor) {
+        this(in, bufSize, (Type) clazz, unwrapArray, executor);
+    }
+
+    public JsonPublisher(InputStream in, int bufSize, TypeLiteral<T> typeLiteral, boolean unwrapArray, Executor executor) {
+        this(in, bufSize, typeLiteral.getType(), unwrapArray, executor);
+    }
+
+    private JsonPublisher(InputStream in, int bufSize, Type type, boolean unwrapArray, Executor executor) {
+        this.in = in;
+        this.bufSize = bufSize;
+        this.type = type;
+        this.unwrapArray = unwrapArray;
+        this.executor = executor;
+    }
+
+    public void subscribe(Subscriber<? super T> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("subscriber");
+        }
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new Subscription() {
+                public void request(long n) {
+                }
+
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException("JsonPublisher can only be subscribed once"));
+            return;
+        }
+        subscriber.onSubscribe(new JsonSubscription(subscriber, JsoniterSpi.getCurrentConfig()));
+    }
+
+    private class JsonSubscription implements Subscription, Runnable {
+
+        private final Subscriber<? super T> subscriber;
+        private final Config config;
+        private final AtomicLong requested = new AtomicLong();
+        private volatile boolean cancelled;
+        private volatile boolean invalidRequest;
+        private volatile long invalidRequestN;
+        // only touched by the draining thread
+        private JsonIterator iter;
+        private boolean started;
+
+        JsonSubscription(Subscriber<? super T> subscriber, Config config) {
+            this.subscriber = subscriber;
+            this.config = config;
+        }
+
+        public void request(long n) {
+            if (n <= 0) {
+                // reported from the draining thread, signals to subscriber must not be concurrent
+                invalidRequestN = n;
+                invalidRequest = true;
+                n = 1;
+            }
+            for (; ; ) {
+                long current = requested.get();
+                long next = current + n;
+                if (next < 0) {
+                    next = Long.MAX_VALUE; // unbounded
+                }
+                if (requested.compareAndSet(current, next)) {
+                    if (current == 0) {
+                        // no one is draining, start it
+                        if (executor == null) {
+                            run();
+                        } else {
+                            executor.execute(this);
+                        }
+                    }
+                    return;
+                }
+            }
+        }
+
+        public void cancel() {
+            cancelled = true;
+            // the stream will be closed by the draining thread, or now if there is none
+            request(1);
+        }
+
+        public void run() {
+            Config previous = JsoniterSpi.getCurrentConfig();
+            JsoniterSpi.setCurrentConfig(config);
+            try {
+                drain();
+            } finally {
+                JsoniterSpi.setCurrentConfig(previous);
+            }
+        }
+
+        private void drain() {
+            long emitted = 0;
+            for (; ; ) {
+                long demand = requested.get();
+                while (emitted != demand) {
+                    if (cancelled) {
+                        close();
+                        return;
+                    }
+                    if (invalidRequest) {
+                        cancelled = true;
+                        close();
+                        subscriber.onError(new IllegalArgumentException(
+                                "non-positive request signals are illegal: " + invalidRequestN));
+                        return;
+                    }
+                    T element;
+                    try {
+                        if (!hasNext()) {
+                            cancelled = true;
+                            close();
+                            subscriber.onComplete();
+                            return;
+                        }
+                        element = (T) iter.read(type);
+                    } catch (Exception e) {
+                        cancelled = true;
+                        close();
+                        subscriber.onError(e);
+                        return;
+                    }
+                    subscriber.onNext(element);
+                    emitted++;
+                }
+                if (demand == Long.MAX_VALUE) {
+                    continue;
+                }
+                // request called during onNext adds to the demand, keep draining in this thread
+                demand = requested.addAndGet(-emitted);
+                emitted = 0;
+                if (demand == 0) {
+                    return;
+                }
+            }
+        }
+
+        private boolean hasNext() throws IOException {
+            if (!started) {
+                started = true;
+                iter = JsonIterator.parse(in, bufSize);
+                if (unwrapArray) {
+                    if (IterImpl.nextToken(iter) != '[') {
+                        throw iter.reportError("JsonPublisher", "expect [");
+                    }
+                    iter.unreadByte();
+                    return iter.readArray() || checkEnd();
+                }
+            } else if (unwrapArray) {
+                return iter.readArray() || checkEnd();
+            }
+            if (IterImpl.nextToken(iter) == 0) {
+                return false;
+            }
+            iter.unreadByte();
+            return true;
+        }
+
+        private boolean checkEnd() throws IOException {
+            if (IterImpl.nextToken(iter) != 0) {
+                throw iter.reportError("JsonPublisher", "trailing garbage found");
+            }
+            return false;
+        }
+
+        private void close() {
+            try {
+                in.close();
+            } catch (IOException e) {
+                // the flow is ended already, nothing to report to
+            }
+        }
+    }
+}
@@ -0,0 +1,292 @@
+package com.jsoniter;
+
+import com.jsoniter.spi.JsonException;
+import com.jsoniter.spi.Slice;
+import com.jsoniter.spi.TypeLiteral;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * non-blocking parser, bytes are pushed in as they arrive instead of pulled from an InputStream.
+ * the scan state (nesting depth, inside string, after escape) is kept between feeds,
+ * so every byte is scanned once no matter how the input is split.
+ * when a whole value has arrived, next() returns VALUE and it can be bound by read or iterator.
+ * the value is valid until the next call to next() or feed()
+ * <p>
+ * top-level values can follow each other (concatenated json, json lines).
+ * with unwrapArray, the input is one top-level array and every element is returned as a value
+ */
+public class JsonPushParser {
+
+    public enum Event {
+        NEED_MORE_INPUT,
+        VALUE,
+        END
+    }
+
+    private final static int ARRAY_NOT_STARTED = 0;
+    private final static int ARRAY_FIRST_ELEMENT = 1;
+    private final static int ARRAY_NEXT_ELEMENT = 2;
+    private final static int ARRAY_AFTER_ELEMENT = 3;
+    private final static int ARRAY_ENDED = 4;
+
+    private final boolean unwrapArray;
+    private final JsonIterator iter = new JsonIterator();
+    private final Slice value = new Slice(null, 0, 0);
+    private byte[] buf;
+    private int pos; // scanned up to
+    private int tail;
+    private boolean endOfInput;
+    // the value being scanned
+    private int valueStart = -1;
+    private int valueEnd = -1; // set when the value is complete
+    private int depth;
+    private boolean inString;
+    private boolean escaped;
+    private boolean inScalar;
+    private int arrayState = ARRAY_NOT_STARTED;
+
+    public JsonPushParser() {
+        this(false);
+    }
+
+    public JsonPushParser(boolean unwrapArray) {
+        this(unwrapArray, 1024);
+    }
+
+    public JsonPushParser(boolean unwrapArray, int bufSize) {
+        this.unwrapArray = unwrapArray;
+        this.buf = new byte[bufSize];
+    }
+
+    public void feed(byte[] chunk) {
+        feed(chunk, 0, chunk.length);
+    }
+
+    public void feed(byte[] chunk, int off, int len) {
+        if (endOfInput) {
+            throw new JsonException("can not feed after end of input");
+        }
+        // bytes before the value being scanned are not needed any more
+        int keepFrom = valueStart == -1 || valueEnd != -1 ? pos : valueStart;
+        if (valueEnd != -1) {
+            valueStart = -1;
+            valueEnd = -1;
+        }
+        int kept = tail - keepFrom;
+        if (kept + len > buf.length) {
+            byte[] newBuf = new byte[Math.max(buf.length * 2, kept + len)];
+            System.arraycopy(buf, keepFrom, newBuf, 0, kept);
+            buf = newBuf;
+        } else if (keepFrom > 0) {
+            System.arraycopy(buf, keepFrom, buf, 0, kept);
+        }
+        pos -= keepFrom;
+        tail = kept;
+        if (valueStart != -1) {
+            valueStart -= keepFrom;
+        }
+        System.arraycopy(chunk, off, buf, tail, len);
+        tail += len;
+    }
+
+    /**
+     * no more input will be fed, a top-level number can only be completed by this
+     */
+    public void endOfInput() {
+        endOfInput = true;
+    }
+
+    public Event next() {
+        if (valueEnd != -1) {
+            valueStart = -1;
+            valueEnd = -1;
+        }
+        while (pos < tail) {
+            if (valueStart == -1) {
+                if (!startValue(buf[pos])) {
+                    continue;
+                }
+            }
+            if (scanValue()) {
+                return Event.VALUE;
+            }
+        }
+        if (!endOfInput) {
+            return Event.NEED_MORE_INPUT;
+        }
+        if (inScalar) {
+            completeValue(tail);
+            return Event.VALUE;
+        }
+        if (valueStart != -1 || (unwrapArray && arrayState != ARRAY_ENDED)) {
+            throw reportError("premature end");
+        }
+        return Event.END;
+    }
+
+    // return true if the value starts at pos
+    private boolean startValue(byte c) {
+        switch (c) {
+            case ' ':
+            case '\t':
+            case '\n':
+            case '\r':
+                pos++;
+                return false;
+        }
+        if (unwrapArray) {
+            switch (arrayState) {
+                case ARRAY_NOT_STARTED:
+                    if (c != '[') {
+                        throw reportError("expect [");
+                    }
+                    arrayState = ARRAY_FIRST_ELEMENT;
+                    pos++;
+                    return false;
+                case ARRAY_FIRST_ELEMENT:
+                    if (c == ']') {
+                        arrayState = ARRAY_ENDED;
+                        pos++;
+                        return false;
+                    }
+                    break;
+                case ARRAY_AFTER_ELEMENT:
+                    if (c == ',') {
+                        arrayState = ARRAY_NEXT_ELEMENT;
+                    } else if (c == ']') {
+                        arrayState = ARRAY_ENDED;
+                    } else {
+                        throw reportError("expect , or ]");
+                    }
+                    pos++;
+                    return false;
+                case ARRAY_ENDED:
+                    throw reportError("trailing garbage found");
+            }
+        }
+        switch (c) {
+            case '{':
+            case '[':
+                depth = 1;
+                break;
+            case '"':
+                inString = true;
+                break;
+            case '}':
+            case ']':
+            case ',':
+            case ':':
+                throw reportError("unexpected " + (char) c);
+            default:
+                inScalar = true;
+        }
+        valueStart = pos++;
+        return true;
+    }
+
+    // return true if the value is complete
+    private boolean scanValue() {
+        byte[] buf = this.buf;
+        for (; pos < tail; pos++) {
+            byte c = buf[pos];
+            if (inString) {
+                if (escaped) {
+                    escaped = false;
+                } else if (c == '\\') {
+                    escaped = true;
+                } else if (c == '"') {
+                    inString = false;
+                    if (depth == 0) {
+                        completeValue(pos + 1);
+                        return true;
+                    }
+                }
+                continue;
+            }
+            if (inScalar) {
+                switch (c) {
+                    case ' ':
+                    case '\t':
+                    case '\n':
+                    case '\r':
+                    case ',':
+                    case ']':
+                    case '}':
+                        completeValue(pos);
+                        return true;
+                }
+                continue;
+            }
+            switch (c) {
+                case '"':
+                    inString = true;
+                    break;
+                case '{':
+                case '[':
+                    depth++;
+                    break;
+                case '}':
+                case ']':
+                    if (--depth == 0) {
+                        completeValue(pos + 1);
+                        return true;
+                    }
+                    break;
+            }
+        }
+        return false;
+    }
+
+    private void completeValue(int end) {
+        valueEnd = end;
+        pos = end;
+        inScalar = false;
+        if (unwrapArray) {
+            arrayState = ARRAY_AFTER_ELEMENT;
+        }
+    }
+
+    private JsonException reportError(String msg) {
+        return new JsonException("JsonPushParser: " + msg + ", at: " + pos + ", peek: "
+                + new String(buf, Math.max(0, pos - 10), Math.min(pos, tail) - Math.max(0, pos - 10)));
+    }
+
+    /**
+     * @return raw bytes of the value just completed
+     */
+    public Slice value() {
+        if (valueEnd == -1) {
+            throw new JsonException("no value completed, check next() returns VALUE first");
+        }
+        value.reset(buf, valueStart, valueEnd);
+        return value;
+    }
+
+    /**
+     * @return iterator reading the value just completed
+     */
+    public JsonIterator iterator() {
+        iter.reset(value());
+        return iter;
+    }
+
+    public <T> T read(Class<T> clazz) throws IOException {
+        return (T) read((Type) clazz);
+    }
+
+    public <T> T read(TypeLiteral<T> typeLiteral) throws IOException {
+        return (T) read(typeLiteral.getType());
+    }
+
+    private Object read(Type type) throws IOException {
+        JsonIterator iter = iterator();
+        Object val = iter.read(type);
+        if (iter.head < valueEnd) {
+            // a scalar is framed until the next delimiter, 12ab is read as 12
+            throw iter.reportError("JsonPushParser", "trailing garbage found");
+        }
+        return val;
+    }
+}
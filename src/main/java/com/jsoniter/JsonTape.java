@@ -0,0 +1,477 @@
+package com.jsoniter;
+
+import com.jsoniter.output.JsonStream;
+import com.jsoniter.spi.JsonException;
+import com.jsoniter.spi.TypeLiteral;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * the whole document parsed into one long[] tape pointing back to the original byte[].
+ * a node is an int handle (its position on the tape), no object is allocated per node.
+ * <p>
+ * every entry is the type (high 8 bits) and a payload (low 56 bits)
+ * <ul>
+ * <li>string, number, true, false, null: byte length (bits 32-55, saturated) and byte offset (bits 0-31) of the raw value</li>
+ * <li>object, array: byte offset of { or [, followed by one more entry holding the position of the close entry</li>
+ * <li>object end, array end: byte offset after } or ]</li>
+ * </ul>
+ * object children are key, value, key, value... keys are string entries
+ */
+public final class JsonTape {
+
+    public static final int NOT_FOUND = -1;
+
+    private final static byte STRING = '"';
+    private final static byte NUMBER = '0';
+    private final static byte TRUE = 't';
+    private final static byte FALSE = 'f';
+    private final static byte NULL = 'n';
+    private final static byte OBJECT = '{';
+    private final static byte ARRAY = '[';
+    private final static byte OBJECT_END = '}';
+    private final static byte ARRAY_END = ']';
+    private final static long OFFSET_MASK = 0xFFFFFFFFL;
+    private final static int MAX_LENGTH = 0xFFFFFF;
+
+    private final byte[] buf;
+    private final int tail;
+    private long[] tape;
+    private int size;
+
+    private JsonTape(byte[] buf, int tail, int capacity) {
+        this.buf = buf;
+        this.tail = tail;
+        this.tape = new long[capacity];
+    }
+
+    public static JsonTape parse(String str) {
+        return parse(Utf8Chars.encode(str));
+    }
+
+    public static JsonTape parse(byte[] buf) {
+        return parse(buf, 0, buf.length);
+    }
+
+    public static JsonTape parse(byte[] buf, int head, int tail) {
+        JsonTape tape = new JsonTape(buf, tail, 16 + ((tail - head) >>> 3));
+        int lastNotSpacePos = JsonIterator.findLastNotSpacePos(buf, tail);
+        JsonIterator iter = JsonIteratorPool.borrowJsonIterator();
+        iter.reset(buf, head, lastNotSpacePos);
+        try {
+            tape.build(iter);
+            if (iter.head != lastNotSpacePos) {
+                throw iter.reportError("JsonTape", "trailing garbage found");
+            }
+            return tape;
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw iter.reportError("JsonTape", "premature end");
+        } catch (IOException e) {
+            throw new JsonException(e);
+        } finally {
+            JsonIteratorPool.returnJsonIterator(iter);
+        }
+    }
+
+    private void build(JsonIterator iter) throws IOException {
+        int[] stack = new int[16];
+        int depth = 0;
+        for (; ; ) {
+            // read a value
+            byte c = IterImpl.nextToken(iter);
+            int start = iter.head - 1;
+            switch (c) {
+                case '"':
+                    IterImpl.skipString(iter);
+                    appendScalar(STRING, start, iter.head);
+                    break;
+                case 't':
+                    IterImpl.skipFixedBytes(iter, 3);
+                    appendScalar(TRUE, start, iter.head);
+                    break;
+                case 'f':
+                    IterImpl.skipFixedBytes(iter, 4);
+                    appendScalar(FALSE, start, iter.head);
+                    break;
+                case 'n':
+                    IterImpl.skipFixedBytes(iter, 3);
+                    appendScalar(NULL, start, iter.head);
+                    break;
+                case '-':
+                case '0':
+                case '1':
+                case '2':
+                case '3':
+                case '4':
+                case '5':
+                case '6':
+                case '7':
+                case '8':
+                case '9':
+                    IterImpl.skipNumber(iter);
+                    appendScalar(NUMBER, start, iter.head);
+                    break;
+                case '{':
+                case '[':
+                    int open = size;
+                    append(c, start);
+                    append(0, 0);
+                    byte next = IterImpl.nextToken(iter);
+                    if (next == (c == '{' ? '}' : ']')) {
+                        close(open, iter.head);
+                        break;
+                    }
+                    if (depth == stack.length) {
+                        stack = Arrays.copyOf(stack, depth * 2);
+                    }
+                    stack[depth++] = open;
+                    iter.unreadByte();
+                    if (c == '{') {
+                        readField(iter);
+                    }
+                    continue;
+                default:
+                    throw iter.reportError("JsonTape", "unexpected token: " + c);
+            }
+            // after a value, find the next one or close the containers
+            for (; ; ) {
+                if (depth == 0) {
+                    return;
+                }
+                int open = stack[depth - 1];
+                byte type = type(tape[open]);
+                c = IterImpl.nextToken(iter);
+                if (c == ',') {
+                    if (type == OBJECT) {
+                        readField(iter);
+                    }
+                    break;
+                }
+                if (c != (type == OBJECT ? '}' : ']')) {
+                    throw iter.reportError("JsonTape", "expect , or " + (type == OBJECT ? '}' : ']'));
+                }
+                depth--;
+                close(open, iter.head);
+            }
+        }
+    }
+
+    private void readField(JsonIterator iter) throws IOException {
+        if (IterImpl.nextToken(iter) != '"') {
+            throw iter.reportError("JsonTape", "expect \" for object field");
+        }
+        int start = iter.head - 1;
+        IterImpl.skipString(iter);
+        appendScalar(STRING, start, iter.head);
+        if (IterImpl.nextToken(iter) != ':') {
+            throw iter.reportError("JsonTape", "expect :");
+        }
+    }
+
+    private void appendScalar(byte type, int start, int end) {
+        append(type, ((long) Math.min(end - start, MAX_LENGTH) << 32) | start);
+    }
+
+    private void close(int open, int end) {
+        tape[open + 1] = size;
+        append(type(tape[open]) == OBJECT ? OBJECT_END : ARRAY_END, end);
+    }
+
+    private void append(int type, long payload) {
+        if (size == tape.length) {
+            tape = Arrays.copyOf(tape, size * 2);
+        }
+        tape[size++] = ((long) type << 56) | payload;
+    }
+
+    private static byte type(long entry) {
+        return (byte) (entry >>> 56);
+    }
+
+    private static int offset(long entry) {
+        return (int) (entry & OFFSET_MASK);
+    }
+
+    private int byteEnd(int node) {
+        long entry = tape[node];
+        switch (type(entry)) {
+            case OBJECT:
+            case ARRAY:
+                return offset(tape[(int) tape[node + 1]]);
+            default:
+                int start = offset(entry);
+                int length = (int) ((entry >>> 32) & MAX_LENGTH);
+                if (length < MAX_LENGTH) {
+                    return start + length;
+                }
+                // too long to keep on the tape, scan it again
+                JsonIterator iter = JsonIteratorPool.borrowJsonIterator();
+                iter.reset(buf, start, tail);
+                try {
+                    iter.skip();
+                    return iter.head;
+                } catch (IOException e) {
+                    throw new JsonException(e);
+                } finally {
+                    JsonIteratorPool.returnJsonIterator(iter);
+                }
+        }
+    }
+
+    /**
+     * @return the node of the whole document
+     */
+    public int root() {
+        return 0;
+    }
+
+    /**
+     * @return number of entries on the tape, an object takes 3 entries, other values take one
+     */
+    public int tapeSize() {
+        return size;
+    }
+
+    public ValueType valueType(int node) {
+        if (node == NOT_FOUND) {
+            return ValueType.INVALID;
+        }
+        switch (type(tape[node])) {
+            case STRING:
+                return ValueType.STRING;
+            case NUMBER:
+                return ValueType.NUMBER;
+            case TRUE:
+            case FALSE:
+                return ValueType.BOOLEAN;
+            case NULL:
+                return ValueType.NULL;
+            case OBJECT:
+                return ValueType.OBJECT;
+            case ARRAY:
+                return ValueType.ARRAY;
+            default:
+                return ValueType.INVALID;
+        }
+    }
+
+    /**
+     * @param node object or array
+     * @return the first element of array, the first key of object, or NOT_FOUND if empty
+     */
+    public int first(int node) {
+        if (node == NOT_FOUND) {
+            return NOT_FOUND;
+        }
+        byte type = type(tape[node]);
+        if (type != OBJECT && type != ARRAY) {
+            return NOT_FOUND;
+        }
+        return sibling(node + 2);
+    }
+
+    /**
+     * @param node element of array, key or value of object
+     * @return the node after it in the same container, or NOT_FOUND if it is the last one
+     */
+    public int next(int node) {
+        if (node == NOT_FOUND) {
+            return NOT_FOUND;
+        }
+        byte type = type(tape[node]);
+        int next = type == OBJECT || type == ARRAY ? (int) tape[node + 1] + 1 : node + 1;
+        return sibling(next);
+    }
+
+    private int sibling(int node) {
+        if (node >= size) {
+            return NOT_FOUND;
+        }
+        byte type = type(tape[node]);
+        return type == OBJECT_END || type == ARRAY_END ? NOT_FOUND : node;
+    }
+
+    /**
+     * @param key the key node returned by first/next of object
+     * @return the value node
+     */
+    public int value(int key) {
+        return key == NOT_FOUND ? NOT_FOUND : key + 1;
+    }
+
+    /**
+     * @return number of array elements or object fields, 0 for other values and NOT_FOUND
+     */
+    public int size(int node) {
+        if (node == NOT_FOUND) {
+            return 0;
+        }
+        int count = 0;
+        for (int child = first(node); child != NOT_FOUND; child = next(child)) {
+            count++;
+        }
+        return type(tape[node]) == OBJECT ? count / 2 : count;
+    }
+
+    /**
+     * @param node start from
+     * @param keys String for object field, Integer for array index
+     * @return the node found, or NOT_FOUND
+     */
+    public int get(int node, Object... keys) {
+        for (int i = 0; i < keys.length && node != NOT_FOUND; i++) {
+            Object key = keys[i];
+            byte type = type(tape[node]);
+            if (type == OBJECT && key instanceof String) {
+                node = field(node, (String) key);
+            } else if (type == ARRAY && key instanceof Integer) {
+                node = element(node, (Integer) key);
+            } else {
+                node = NOT_FOUND;
+            }
+        }
+        return node;
+    }
+
+    private int field(int node, String target) {
+        for (int key = first(node); key != NOT_FOUND; key = next(key + 1)) {
+            if (keyEquals(key, target)) {
+                return key + 1;
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    private int element(int node, int target) {
+        if (target < 0) {
+            return NOT_FOUND;
+        }
+        int element = first(node);
+        for (int i = 0; i < target && element != NOT_FOUND; i++) {
+            element = next(element);
+        }
+        return element;
+    }
+
+    private boolean keyEquals(int key, String target) {
+        long entry = tape[key];
+        int start = offset(entry) + 1;
+        int length = (int) ((entry >>> 32) & MAX_LENGTH) - 2;
+        if (length != target.length()) {
+            // might still be equal if escaped or not ascii
+            return length > target.length() && toString(key).equals(target);
+        }
+        for (int i = 0; i < length; i++) {
+            byte c = buf[start + i];
+            if (c == '\\' || c < 0) {
+                return toString(key).equals(target);
+            }
+            if (c != target.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private JsonIterator parse(int node) {
+        if (node == NOT_FOUND) {
+            throw new JsonException("node not found");
+        }
+        JsonIterator iter = JsonIteratorPool.borrowJsonIterator();
+        iter.reset(buf, offset(tape[node]), byteEnd(node));
+        return iter;
+    }
+
+    public String toString(int node) {
+        JsonIterator iter = parse(node);
+        try {
+            return iter.readString();
+        } catch (IOException e) {
+            throw new JsonException(e);
+        } finally {
+            JsonIteratorPool.returnJsonIterator(iter);
+        }
+    }
+
+    public boolean toBoolean(int node) {
+        JsonIterator iter = parse(node);
+        try {
+            return iter.readBoolean();
+        } catch (IOException e) {
+            throw new JsonException(e);
+        } finally {
+            JsonIteratorPool.returnJsonIterator(iter);
+        }
+    }
+
+    public int toInt(int node) {
+        JsonIterator iter = parse(node);
+        try {
+            return iter.readInt();
+        } catch (IOException e) {
+            throw new JsonException(e);
+        } finally {
+            JsonIteratorPool.returnJsonIterator(iter);
+        }
+    }
+
+    public long toLong(int node) {
+        JsonIterator iter = parse(node);
+        try {
+            return iter.readLong();
+        } catch (IOException e) {
+            throw new JsonException(e);
+        } finally {
+            JsonIteratorPool.returnJsonIterator(iter);
+        }
+    }
+
+    public double toDouble(int node) {
+        JsonIterator iter = parse(node);
+        try {
+            return iter.readDouble();
+        } catch (IOException e) {
+            throw new JsonException(e);
+        } finally {
+            JsonIteratorPool.returnJsonIterator(iter);
+        }
+    }
+
+    public <T> T as(int node, Class<T> clazz) {
+        JsonIterator iter = parse(node);
+        try {
+            return iter.read(clazz);
+        } catch (IOException e) {
+            throw new JsonException(e);
+        } finally {
+            JsonIteratorPool.returnJsonIterator(iter);
+        }
+    }
+
+    public <T> T as(int node, TypeLiteral<T> typeLiteral) {
+        JsonIterator iter = parse(node);
+        try {
+            return iter.read(typeLiteral);
+        } catch (IOException e) {
+            throw new JsonException(e);
+        } finally {
+            JsonIteratorPool.returnJsonIterator(iter);
+        }
+    }
+
+    /**
+     * write the raw bytes of the node
+     */
+    public void writeTo(int node, JsonStream stream) throws IOException {
+        if (node == NOT_FOUND) {
+            throw new JsonException("node not found");
+        }
+        int start = offset(tape[node]);
+        stream.write(buf, start, byteEnd(node) - start);
+    }
+
+    public void writeTo(JsonStream stream) throws IOException {
+        writeTo(root(), stream);
+    }
+}
@@ -36,7 +36,7 @@ class MapKeyDecoders {
 
         @Override
         public Object decode(JsonIterator iter) throws IOException {
-            return iter.readString();
+            return IterImplString.readKey(iter);
         }
     }
 
@@ -0,0 +1,81 @@
+package com.jsoniter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+// map the file region by region (a MappedByteBuffer can not be larger than 2GB)
+// only the bytes being parsed are paged in, the file is never read onto the heap as a whole.
+// used by ParallelJsonLinesReader to give each worker its own range of the file
+class MappedFileInputStream extends InputStream {
+
+    private final FileChannel channel;
+    private final boolean ownsChannel;
+    private final long regionSize;
+    private final long size;
+    private long nextRegionStart;
+    private MappedByteBuffer region;
+
+    MappedFileInputStream(FileChannel channel, boolean ownsChannel, long regionSize) throws IOException {
+        this(channel, ownsChannel, regionSize, channel.position(), channel.size());
+    }
+
+    // read [start, end) of the file, the position of channel is not used
+    MappedFileInputStream(FileChannel channel, boolean ownsChannel, long regionSize, long start, long end) {
+        this.channel = channel;
+        this.ownsChannel = ownsChannel;
+        this.regionSize = regionSize;
+        this.size = end;
+        this.nextRegionStart = start;
+    }
+
+    private boolean nextRegion() throws IOException {
+        if (nextRegionStart >= size) {
+            return false;
+        }
+        long regionLength = Math.min(regionSize, size - nextRegionStart);
+        // the previous region is unmapped when garbage collected
+        region = channel.map(FileChannel.MapMode.READ_ONLY, nextRegionStart, regionLength);
+        nextRegionStart += regionLength;
+        return true;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (region == null || !region.hasRemaining()) {
+            if (!nextRegion()) {
+                return -1;
+            }
+        }
+        return region.get() & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (region == null || !region.hasRemaining()) {
+            if (!nextRegion()) {
+                return -1;
+            }
+        }
+        int n = Math.min(len, region.remaining());
+        region.get(b, off, n);
+        return n;
+    }
+
+    @Override
+    public int available() {
+        return region == null ? 0 : region.remaining();
+    }
+
+    @Override
+    public void close() throws IOException {
+        region = null;
+        if (ownsChannel) {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.jsoniter;
+
+import com.jsoniter.spi.Config;
+import com.jsoniter.spi.JsonException;
+import com.jsoniter.spi.JsoniterSpi;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+// find the boundaries of array elements with a skip pass, then bind ranges of elements on the executor
+class ParallelArrayReader {
+
+    static List<Object> read(final byte[] input, final Type type, ExecutorService executor, int parallelism) {
+        if (parallelism < 1) {
+            throw new JsonException("parallelism must be at least 1: " + parallelism);
+        }
+        int[] bounds = findElements(input);
+        int count = bounds.length / 2;
+        final Object[] elements = new Object[count];
+        final Config config = JsoniterSpi.getCurrentConfig();
+        int tasks = Math.min(count, parallelism * 4);
+        List<Future<Void>> futures = new ArrayList<Future<Void>>(tasks);
+        final int[] finalBounds = bounds;
+        for (int t = 0; t < tasks; t++) {
+            final int from = (int) ((long) count * t / tasks);
+            final int to = (int) ((long) count * (t + 1) / tasks);
+            futures.add(executor.submit(new Callable<Void>() {
+                @Override
+                public Void call() throws Exception {
+                    bind(input, finalBounds, from, to, type, config, elements);
+                    return null;
+                }
+            }));
+        }
+        try {
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancel(futures);
+            throw new JsonException(e);
+        } catch (ExecutionException e) {
+            cancel(futures);
+            if (e.getCause() instanceof JsonException) {
+                throw (JsonException) e.getCause();
+            }
+            throw new JsonException(e.getCause());
+        }
+        return Arrays.asList(elements);
+    }
+
+    private static void cancel(List<Future<Void>> futures) {
+        for (Future<Void> future : futures) {
+            future.cancel(true);
+        }
+    }
+
+    // start and end of every element, flattened
+    private static int[] findElements(byte[] input) {
+        int[] bounds = new int[64];
+        int size = 0;
+        JsonIterator iter = JsonIteratorPool.borrowJsonIterator();
+        iter.reset(input);
+        try {
+            if (IterImpl.nextToken(iter) != '[') {
+                throw iter.reportError("parallelReadArray", "expect [");
+            }
+            byte c = IterImpl.nextToken(iter);
+            if (c != ']') {
+                iter.unreadByte();
+                do {
+                    if (size == bounds.length) {
+                        bounds = Arrays.copyOf(bounds, size * 2);
+                    }
+                    bounds[size++] = iter.head;
+                    IterImplSkip.skip(iter);
+                    bounds[size++] = iter.head;
+                    c = IterImpl.nextToken(iter);
+                } while (c == ',');
+                if (c != ']') {
+                    throw iter.reportError("parallelReadArray", "expect , or ]");
+                }
+            }
+            while (iter.head < iter.tail) {
+                c = iter.buf[iter.head++];
+                if (c != ' ' && c != '\t' && c != '\n' && c != '\r') {
+                    throw iter.reportError("parallelReadArray", "trailing garbage found");
+                }
+            }
+            return Arrays.copyOf(bounds, size);
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw iter.reportError("parallelReadArray", "premature end");
+        } catch (IOException e) {
+            throw new JsonException(e);
+        } finally {
+            JsonIteratorPool.returnJsonIterator(iter);
+        }
+    }
+
+    private static void bind(byte[] input, int[] bounds, int from, int to, Type type,
+                             Config config, Object[] elements) throws IOException {
+        Config previous = JsoniterSpi.getCurrentConfig();
+        JsoniterSpi.setCurrentConfig(config);
+        JsonIterator iter = JsonIteratorPool.borrowJsonIterator();
+        try {
+            for (int i = from; i < to; i++) {
+                iter.reset(input, bounds[i * 2], bounds[i * 2 + 1]);
+                elements[i] = iter.read(type);
+            }
+        } finally {
+            JsonIteratorPool.returnJsonIterator(iter);
+            JsoniterSpi.setCurrentConfig(previous);
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package com.jsoniter;
+
+import com.jsoniter.spi.Config;
+import com.jsoniter.spi.JsonException;
+import com.jsoniter.spi.JsoniterSpi;
+import com.jsoniter.spi.TypeLiteral;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * decode newline delimited json on multiple threads.
+ * the input is split into chunks at line breaks, every chunk is decoded by its own JsonLinesReader on the executor,
+ * records are returned in input order. the config of the calling thread is used by the workers
+ */
+public class ParallelJsonLinesReader {
+
+    private final static int MAX_CHUNK_SIZE = 1 << 30; // a chunk of file is mapped as one region
+    private final ExecutorService executor;
+    private final int chunkCount;
+    private boolean skipMalformed;
+
+    /**
+     * @param executor    runs the chunks
+     * @param parallelism number of threads of the executor, input is split into 4 chunks per thread to balance load
+     */
+    public ParallelJsonLinesReader(ExecutorService executor, int parallelism) {
+        if (parallelism < 1) {
+            throw new JsonException("parallelism must be at least 1: " + parallelism);
+        }
+        this.executor = executor;
+        this.chunkCount = parallelism == 1 ? 1 : parallelism * 4;
+    }
+
+    public ParallelJsonLinesReader skipMalformed(boolean skipMalformed) {
+        this.skipMalformed = skipMalformed;
+        return this;
+    }
+
+    public <T> List<T> read(byte[] input, Class<T> clazz) {
+        return toList(iterator(input, clazz));
+    }
+
+    public <T> List<T> read(byte[] input, TypeLiteral<T> typeLiteral) {
+        return toList(iterator(input, typeLiteral));
+    }
+
+    public <T> List<T> read(File file, Class<T> clazz) throws IOException {
+        return toList(iterator(file, clazz));
+    }
+
+    public <T> List<T> read(File file, TypeLiteral<T> typeLiteral) throws IOException {
+        return toList(iterator(file, typeLiteral));
+    }
+
+    /**
+     * records of a chunk are available as soon as the chunk and the chunks before it are decoded.
+     * close the iterator to stop before the end, chunks not decoded yet are cancelled and the file is closed
+     */
+    public <T> RecordIterator<T> iterator(byte[] input, Class<T> clazz) {
+        return iterator(input, (Type) clazz);
+    }
+
+    public <T> RecordIterator<T> iterator(byte[] input, TypeLiteral<T> typeLiteral) {
+        return iterator(input, typeLiteral.getType());
+    }
+
+    public <T> RecordIterator<T> iterator(File file, Class<T> clazz) throws IOException {
+        return iterator(file, (Type) clazz);
+    }
+
+    public <T> RecordIterator<T> iterator(File file, TypeLiteral<T> typeLiteral) throws IOException {
+        return iterator(file, typeLiteral.getType());
+    }
+
+    private <T> RecordIterator<T> iterator(final byte[] input, final Type type) {
+        final Config config = JsoniterSpi.getCurrentConfig();
+        List<Future<List<T>>> chunks = new ArrayList<Future<List<T>>>(chunkCount);
+        int start = 0;
+        for (int i = 1; i <= chunkCount && start < input.length; i++) {
+            int end = i == chunkCount ? input.length : lineEnd(input, (int) ((long) input.length * i / chunkCount), start);
+            final int chunkStart = start;
+            final int chunkEnd = end;
+            chunks.add(executor.submit(new Callable<List<T>>() {
+                @Override
+                public List<T> call() throws Exception {
+                    return decode(new JsonLinesReader(input, chunkStart, chunkEnd), type, config);
+                }
+            }));
+            start = end;
+        }
+        return new RecordIterator<T>(chunks);
+    }
+
+    private <T> RecordIterator<T> iterator(File file, final Type type) throws IOException {
+        final Config config = JsoniterSpi.getCurrentConfig();
+        final FileChannel channel = new RandomAccessFile(file, "r").getChannel();
+        try {
+            long size = channel.size();
+            long chunks = Math.max(chunkCount, size / MAX_CHUNK_SIZE + 1);
+            List<Future<List<T>>> futures = new ArrayList<Future<List<T>>>();
+            long start = 0;
+            for (long i = 1; i <= chunks && start < size; i++) {
+                long end = i == chunks ? size : lineEnd(channel, size * i / chunks, start);
+                final long chunkStart = start;
+                final long chunkEnd = end;
+                futures.add(executor.submit(new Callable<List<T>>() {
+                    @Override
+                    public List<T> call() throws Exception {
+                        MappedFileInputStream in = new MappedFileInputStream(
+                                channel, false, MAX_CHUNK_SIZE, chunkStart, chunkEnd);
+                        return decode(new JsonLinesReader(in), type, config);
+                    }
+                }));
+                start = end;
+            }
+            return new RecordIterator<T>(futures, channel);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        } catch (RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    // the position after the line break at or after pos
+    private static int lineEnd(byte[] input, int pos, int from) {
+        for (int i = Math.max(pos, from); i < input.length; i++) {
+            if (input[i] == '\n') {
+                return i + 1;
+            }
+        }
+        return input.length;
+    }
+
+    private static long lineEnd(FileChannel channel, long pos, long from) throws IOException {
+        ByteBuffer buf = ByteBuffer.allocate(4096);
+        long offset = Math.max(pos, from);
+        for (; ; ) {
+            buf.clear();
+            int n = channel.read(buf, offset);
+            if (n == -1) {
+                return channel.size();
+            }
+            for (int i = 0; i < n; i++) {
+                if (buf.get(i) == '\n') {
+                    return offset + i + 1;
+                }
+            }
+            offset += n;
+        }
+    }
+
+    private <T> List<T> decode(JsonLinesReader reader, Type type, Config config) throws IOException {
+        Config previous = JsoniterSpi.getCurrentConfig();
+        JsoniterSpi.setCurrentConfig(config);
+        try {
+            reader.skipMalformed(skipMalformed);
+            List<T> records = new ArrayList<T>();
+            while (reader.hasNext()) {
+                Object record = reader.next(type);
+                if (record != JsonLinesReader.END) {
+                    records.add((T) record);
+                }
+            }
+            return records;
+        } finally {
+            JsoniterSpi.setCurrentConfig(previous);
+        }
+    }
+
+    private static <T> List<T> toList(RecordIterator<T> iter) {
+        try {
+            List<T> list = new ArrayList<T>();
+            while (iter.hasNext()) {
+                list.add(iter.next());
+            }
+            return list;
+        } finally {
+            iter.close();
+        }
+    }
+
+    /**
+     * records in input order, close it when not read to the end
+     */
+    public static class RecordIterator<T> implements Iterator<T>, Closeable {
+
+        private final List<Future<List<T>>> chunks;
+        final FileChannel channel;
+        private int nextChunk;
+        private Iterator<T> current;
+        private boolean closed;
+
+        RecordIterator(List<Future<List<T>>> chunks) {
+            this(chunks, null);
+        }
+
+        RecordIterator(List<Future<List<T>>> chunks, FileChannel channel) {
+            this.chunks = chunks;
+            this.channel = channel;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (closed) {
+                return false;
+            }
+            while (current == null || !current.hasNext()) {
+                if (nextChunk == chunks.size()) {
+                    close();
+                    return false;
+                }
+                Future<List<T>> chunk = chunks.get(nextChunk);
+                chunks.set(nextChunk++, null); // let the decoded chunk be garbage collected
+                current = get(chunk).iterator();
+            }
+            return true;
+        }
+
+        private List<T> get(Future<List<T>> chunk) {
+            try {
+                return chunk.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                close();
+                throw new JsonException(e);
+            } catch (ExecutionException e) {
+                close();
+                Throwable cause = e.getCause();
+                if (cause instanceof JsonException) {
+                    throw (JsonException) cause;
+                }
+                throw new JsonException(cause);
+            }
+        }
+
+        /**
+         * cancel the chunks not returned yet and close the file, records not read are dropped
+         */
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            current = null;
+            for (int i = nextChunk; i < chunks.size(); i++) {
+                chunks.get(i).cancel(true);
+                chunks.set(i, null);
+            }
+            nextChunk = chunks.size();
+            if (channel == null) {
+                return;
+            }
+            try {
+                channel.close();
+            } catch (IOException e) {
+                throw new JsonException(e);
+            }
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return current.next();
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.jsoniter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+
+/**
+ * utf-8 bytes of a Reader, encoded chunk by chunk into the buffer of the streaming iterator
+ */
+class ReaderInputStream extends InputStream {
+
+    private final Reader reader;
+    private final char[] chars;
+    private int head;
+    private int tail;
+    private char highSurrogate; // last char of a chunk, waiting for its pair
+    // bytes of a char not fitting in the last read
+    private final byte[] pending = new byte[4];
+    private int pendingHead;
+    private int pendingTail;
+
+    ReaderInputStream(Reader reader, int bufSize) {
+        this.reader = reader;
+        this.chars = new char[Math.max(bufSize, 2)];
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] b = new byte[1];
+        return read(b, 0, 1) == -1 ? -1 : b[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int n = 0;
+        while (pendingHead < pendingTail && n < len) {
+            b[off + n++] = pending[pendingHead++];
+        }
+        while (n < len) {
+            if (head == tail) {
+                if (n > 0) {
+                    // do not block for more chars while some bytes can be returned
+                    return n;
+                }
+                int read = reader.read(chars, 0, chars.length);
+                if (read == -1) {
+                    if (highSurrogate != 0) {
+                        highSurrogate = 0;
+                        b[off + n++] = '?';
+                        continue;
+                    }
+                    return -1;
+                }
+                head = 0;
+                tail = read;
+            }
+            char c = chars[head];
+            if (highSurrogate == 0 && c < 0x80) {
+                b[off + n++] = (byte) c;
+                head++;
+                continue;
+            }
+            head++;
+            int codePoint = c;
+            if (highSurrogate != 0) {
+                if (Character.isLowSurrogate(c)) {
+                    codePoint = Character.toCodePoint(highSurrogate, c);
+                } else {
+                    // unpaired, the current char is encoded next round
+                    codePoint = highSurrogate;
+                    head--;
+                }
+                highSurrogate = 0;
+            } else if (Character.isHighSurrogate(c)) {
+                if (head == tail) {
+                    highSurrogate = c;
+                    continue;
+                }
+                if (Character.isLowSurrogate(chars[head])) {
+                    codePoint = Character.toCodePoint(c, chars[head++]);
+                }
+            }
+            int bytes = Utf8Chars.encode(codePoint, pending, 0);
+            pendingHead = 0;
+            pendingTail = bytes;
+            while (pendingHead < pendingTail && n < len) {
+                b[off + n++] = pending[pendingHead++];
+            }
+        }
+        return n;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,132 @@
+package com.jsoniter;
+
+import java.util.Arrays;
+
+/**
+ * position of every object and array in a byte[], paired with the position right after its end.
+ * built once in a single pass, then skip/readAny jump over a whole value instead of scanning it again.
+ * the index is immutable, so it can be shared by iterators and lazy any reading the same byte[]
+ */
+public final class StructuralIndex {
+
+    final byte[] buf;
+    // starts[i] is the position of { or [, ends[i] is the position after the matching } or ]
+    // -1 if the value is not closed properly, leave it to the byte scan to report the error
+    private int[] starts;
+    private int[] ends;
+    // nexts[i] is the entry right after the whole value of entry i
+    private int[] nexts;
+    private int size;
+
+    private StructuralIndex(byte[] buf, int capacity) {
+        this.buf = buf;
+        starts = new int[capacity];
+        ends = new int[capacity];
+        nexts = new int[capacity];
+    }
+
+    public static StructuralIndex build(byte[] buf) {
+        return build(buf, 0, buf.length);
+    }
+
+    public static StructuralIndex build(byte[] buf, int head, int tail) {
+        StructuralIndex index = new StructuralIndex(buf, Math.max(16, (tail - head) >>> 4));
+        int[] stack = new int[16];
+        int depth = 0;
+        for (int i = head; i < tail; i++) {
+            byte c = buf[i];
+            switch (c) {
+                case '"':
+                    // strings are not indexed, short strings are cheaper to scan than to look up
+                    int end = findStringEnd(buf, i + 1, tail);
+                    if (end == -1) {
+                        return index;
+                    }
+                    i = end - 1; // it will be i++ soon
+                    break;
+                case '{':
+                case '[':
+                    if (depth == stack.length) {
+                        stack = Arrays.copyOf(stack, depth * 2);
+                    }
+                    stack[depth++] = index.size;
+                    index.add(i, -1, -1);
+                    break;
+                case '}':
+                case ']':
+                    if (depth == 0) {
+                        return index;
+                    }
+                    int entry = stack[--depth];
+                    if (buf[index.starts[entry]] != (c == '}' ? '{' : '[')) {
+                        return index;
+                    }
+                    index.ends[entry] = i + 1;
+                    index.nexts[entry] = index.size;
+                    break;
+            }
+        }
+        return index;
+    }
+
+    private static int findStringEnd(byte[] buf, int i, int tail) {
+        for (; i < tail; i++) {
+            byte c = buf[i];
+            if (c == '"') {
+                return i + 1;
+            }
+            if (c == '\\') {
+                i++; // skip the escaped byte
+            }
+        }
+        return -1;
+    }
+
+    private void add(int start, int end, int next) {
+        if (size == starts.length) {
+            int capacity = size * 2;
+            starts = Arrays.copyOf(starts, capacity);
+            ends = Arrays.copyOf(ends, capacity);
+            nexts = Arrays.copyOf(nexts, capacity);
+        }
+        starts[size] = start;
+        ends[size] = end;
+        nexts[size] = next;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param iter  the iterator reading the indexed byte[], its head is right after the { or [
+     * @return true if iter.head has been moved after the end of the value
+     */
+    final boolean skip(JsonIterator iter) {
+        int start = iter.head - 1;
+        int entry = find(start, iter.indexCursor);
+        if (entry == -1) {
+            return false;
+        }
+        int end = ends[entry];
+        if (end == -1) {
+            return false;
+        }
+        iter.head = end;
+        iter.indexCursor = nexts[entry];
+        return true;
+    }
+
+    private int find(int start, int cursor) {
+        // values are usually skipped one after another, try the entry after the last skipped one first
+        if (cursor < size && starts[cursor] == start) {
+            return cursor;
+        }
+        if (cursor + 1 < size && starts[cursor + 1] == start) {
+            return cursor + 1;
+        }
+        int found = Arrays.binarySearch(starts, 0, size, start);
+        return found < 0 ? -1 : found;
+    }
+}
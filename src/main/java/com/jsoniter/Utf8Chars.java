@@ -0,0 +1,80 @@
+package com.jsoniter;
+
+/**
+ * utf-8 encoding of chars straight into the byte[] being parsed, without String.getBytes.
+ * an unpaired surrogate is encoded as '?', same as String.getBytes
+ */
+class Utf8Chars {
+
+    static int length(CharSequence input) {
+        int len = input.length();
+        int bytes = len;
+        for (int i = 0; i < len; i++) {
+            char c = input.charAt(i);
+            if (c < 0x80) {
+                continue;
+            }
+            if (c < 0x800) {
+                bytes += 1;
+            } else if (c < Character.MIN_SURROGATE || c > Character.MAX_SURROGATE) {
+                bytes += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < len && Character.isLowSurrogate(input.charAt(i + 1))) {
+                // 4 bytes for 2 chars
+                bytes += 2;
+                i++;
+            }
+        }
+        return bytes;
+    }
+
+    static byte[] encode(CharSequence input) {
+        byte[] bytes = new byte[length(input)];
+        encode(input, bytes);
+        return bytes;
+    }
+
+    /**
+     * @param dest at least length(input) bytes
+     * @return bytes written
+     */
+    static int encode(CharSequence input, byte[] dest) {
+        int len = input.length();
+        int pos = 0;
+        for (int i = 0; i < len; i++) {
+            char c = input.charAt(i);
+            if (c < 0x80) {
+                dest[pos++] = (byte) c;
+            } else if (Character.isHighSurrogate(c) && i + 1 < len && Character.isLowSurrogate(input.charAt(i + 1))) {
+                pos = encode(Character.toCodePoint(c, input.charAt(++i)), dest, pos);
+            } else {
+                pos = encode(c, dest, pos);
+            }
+        }
+        return pos;
+    }
+
+    /**
+     * @param codePoint not ascii, a surrogate is taken as unpaired
+     * @return position after the bytes written, at most 4
+     */
+    static int encode(int codePoint, byte[] dest, int pos) {
+        if (codePoint < 0x80) {
+            dest[pos++] = (byte) codePoint;
+        } else if (codePoint < 0x800) {
+            dest[pos++] = (byte) (0xc0 | (codePoint >> 6));
+            dest[pos++] = (byte) (0x80 | (codePoint & 0x3f));
+        } else if (codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE) {
+            dest[pos++] = '?';
+        } else if (codePoint < 0x10000) {
+            dest[pos++] = (byte) (0xe0 | (codePoint >> 12));
+            dest[pos++] = (byte) (0x80 | ((codePoint >> 6) & 0x3f));
+            dest[pos++] = (byte) (0x80 | (codePoint & 0x3f));
+        } else {
+            dest[pos++] = (byte) (0xf0 | (codePoint >> 18));
+            dest[pos++] = (byte) (0x80 | ((codePoint >> 12) & 0x3f));
+            dest[pos++] = (byte) (0x80 | ((codePoint >> 6) & 0x3f));
+            dest[pos++] = (byte) (0x80 | (codePoint & 0x3f));
+        }
+        return pos;
+    }
+}
@@ -0,0 +1,20 @@
+package com.jsoniter.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * decode a low cardinality String field through its own StringCache,
+ * values seen before are the same instance instead of a new String per decoded object
+ */
+@Target({ElementType.ANNOTATION_TYPE, ElementType.FIELD, ElementType.METHOD, ElementType.PARAMETER})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface JsonDedup {
+
+    /**
+     * @return slots of the cache, should be well above the distinct values of the field
+     */
+    int capacity() default 256;
+}
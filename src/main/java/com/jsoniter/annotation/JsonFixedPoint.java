@@ -0,0 +1,21 @@
+package com.jsoniter.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * bind a long to a json decimal with a fixed number of digits after the decimal point,
+ * with scale 2, 12.34 is read as 1234 and 1234 is written as 12.34.
+ * reading a value with more digits than the scale is an error instead of rounding
+ */
+@Target({ElementType.ANNOTATION_TYPE, ElementType.FIELD, ElementType.METHOD, ElementType.PARAMETER})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface JsonFixedPoint {
+
+    /**
+     * @return digits after the decimal point, 0~18, -1 to use Config.fixedPointScale()
+     */
+    int value() default -1;
+}
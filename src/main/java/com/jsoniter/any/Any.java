@@ -2,6 +2,7 @@ package com.jsoniter.any;
 
 import com.jsoniter.output.CodegenAccess;
 import com.jsoniter.spi.JsonException;
+import com.jsoniter.StructuralIndex;
 import com.jsoniter.ValueType;
 import com.jsoniter.output.JsonStream;
 import com.jsoniter.spi.Encoder;
@@ -280,6 +281,14 @@ public abstract class Any implements Iterable<Any> {
         return new ObjectLazyAny(data, head, tail);
     }
 
+    public static Any lazyArray(byte[] data, int head, int tail, StructuralIndex index) {
+        return new ArrayLazyAny(data, head, tail, index);
+    }
+
+    public static Any lazyObject(byte[] data, int head, int tail, StructuralIndex index) {
+        return new ObjectLazyAny(data, head, tail, index);
+    }
+
     public static Any wrap(int val) {
         return new IntAny(val);
     }
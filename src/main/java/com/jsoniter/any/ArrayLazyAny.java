@@ -20,7 +20,11 @@ class ArrayLazyAny extends LazyAny {
     private int lastParsedPos;
 
     public ArrayLazyAny(byte[] data, int head, int tail) {
-        super(data, head, tail);
+        this(data, head, tail, null);
+    }
+
+    public ArrayLazyAny(byte[] data, int head, int tail, StructuralIndex index) {
+        super(data, head, tail, index);
         lastParsedPos = head;
     }
 
@@ -136,7 +140,7 @@ class ArrayLazyAny extends LazyAny {
         }
         JsonIterator iter = JsonIteratorPool.borrowJsonIterator();
         try {
-            iter.reset(data, lastParsedPos, tail);
+            iter.reset(data, lastParsedPos, tail, index);
             if (lastParsedPos == head) {
                 if (!CodegenAccess.readArrayStart(iter)) {
                     lastParsedPos = tail;
@@ -168,7 +172,7 @@ class ArrayLazyAny extends LazyAny {
         }
         JsonIterator iter = JsonIteratorPool.borrowJsonIterator();
         try {
-            iter.reset(data, lastParsedPos, tail);
+            iter.reset(data, lastParsedPos, tail, index);
             if (lastParsedPos == head) {
                 if (!CodegenAccess.readArrayStart(iter)) {
                     lastParsedPos = tail;
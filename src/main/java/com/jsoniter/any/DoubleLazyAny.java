@@ -49,8 +49,15 @@ class DoubleLazyAny extends LazyAny {
 
     @Override
     public float toFloat() {
-        fillCache();
-        return (float) cache;
+        // rounded from the digits, rounding the cached double again could be off by one ulp
+        JsonIterator iter = parse();
+        try {
+            return iter.readFloat();
+        } catch (IOException e) {
+            throw new JsonException(e);
+        } finally {
+            JsonIteratorPool.returnJsonIterator(iter);
+        }
     }
 
     @Override
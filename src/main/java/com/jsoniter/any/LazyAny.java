@@ -3,6 +3,7 @@ package com.jsoniter.any;
 import com.jsoniter.JsonIteratorPool;
 import com.jsoniter.spi.JsonException;
 import com.jsoniter.JsonIterator;
+import com.jsoniter.StructuralIndex;
 import com.jsoniter.ValueType;
 import com.jsoniter.output.JsonStream;
 import com.jsoniter.spi.TypeLiteral;
@@ -14,11 +15,17 @@ abstract class LazyAny extends Any {
     protected final byte[] data;
     protected final int head;
     protected final int tail;
+    protected final StructuralIndex index;
 
     public LazyAny(byte[] data, int head, int tail) {
+        this(data, head, tail, null);
+    }
+
+    public LazyAny(byte[] data, int head, int tail, StructuralIndex index) {
         this.data = data;
         this.head = head;
         this.tail = tail;
+        this.index = index;
     }
 
     public abstract ValueType valueType();
@@ -73,7 +80,7 @@ abstract class LazyAny extends Any {
 
     protected final JsonIterator parse() {
         JsonIterator iter = JsonIteratorPool.borrowJsonIterator();
-        iter.reset(data, head, tail);
+        iter.reset(data, head, tail, index);
         return iter;
     }
 
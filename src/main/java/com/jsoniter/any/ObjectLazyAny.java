@@ -20,7 +20,11 @@ class ObjectLazyAny extends LazyAny {
     private int lastParsedPos;
 
     public ObjectLazyAny(byte[] data, int head, int tail) {
-        super(data, head, tail);
+        this(data, head, tail, null);
+    }
+
+    public ObjectLazyAny(byte[] data, int head, int tail, StructuralIndex index) {
+        super(data, head, tail, index);
         lastParsedPos = head;
     }
 
@@ -137,7 +141,7 @@ class ObjectLazyAny extends LazyAny {
         }
         JsonIterator iter = JsonIteratorPool.borrowJsonIterator();
         try {
-            iter.reset(data, lastParsedPos, tail);
+            iter.reset(data, lastParsedPos, tail, index);
             if (lastParsedPos == head) {
                 if (!CodegenAccess.readObjectStart(iter)) {
                     lastParsedPos = tail;
@@ -178,7 +182,7 @@ class ObjectLazyAny extends LazyAny {
         }
         JsonIterator iter = JsonIteratorPool.borrowJsonIterator();
         try {
-            iter.reset(data, lastParsedPos, tail);
+            iter.reset(data, lastParsedPos, tail, index);
             if (lastParsedPos == head) {
                 if (!CodegenAccess.readObjectStart(iter)) {
                     lastParsedPos = tail;
@@ -220,7 +224,7 @@ class ObjectLazyAny extends LazyAny {
                 if (lastParsedPos == head) {
                     JsonIterator iter = JsonIteratorPool.borrowJsonIterator();
                     try {
-                        iter.reset(data, lastParsedPos, tail);
+                        iter.reset(data, lastParsedPos, tail, index);
                         if (!CodegenAccess.readObjectStart(iter)) {
                             lastParsedPos = tail;
                         } else {
@@ -252,7 +256,7 @@ class ObjectLazyAny extends LazyAny {
             }
             JsonIterator iter = JsonIteratorPool.borrowJsonIterator();
             try {
-                iter.reset(data, lastParsedPos, tail);
+                iter.reset(data, lastParsedPos, tail, index);
                 key = CodegenAccess.readObjectFieldAsString(iter);
                 value = iter.readAny();
                 cache.put(key, value);
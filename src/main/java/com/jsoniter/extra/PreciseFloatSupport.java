@@ -10,7 +10,8 @@ import java.io.IOException;
 
 /**
  * default float/double encoding will keep 6 decimal places
- * enable precise encoding will use JDK toString to be precise
+ * enable precise encoding will write the shortest decimal reading back to the same value.
+ * Config.Builder.preciseFloat does the same for one config
  */
 public class PreciseFloatSupport {
     private static boolean enabled;
@@ -23,7 +24,7 @@ public class PreciseFloatSupport {
         JsoniterSpi.registerTypeEncoder(Double.class, new Encoder.ReflectionEncoder() {
             @Override
             public void encode(Object obj, JsonStream stream) throws IOException {
-                stream.writeRaw(obj.toString());
+                stream.writePreciseVal((Double) obj);
             }
 
             @Override
@@ -35,13 +36,13 @@ public class PreciseFloatSupport {
         JsoniterSpi.registerTypeEncoder(double.class, new Encoder.DoubleEncoder() {
             @Override
             public void encodeDouble(double obj, JsonStream stream) throws IOException {
-                stream.writeRaw(Double.toString(obj));
+                stream.writePreciseVal(obj);
             }
         });
         JsoniterSpi.registerTypeEncoder(Float.class, new Encoder.ReflectionEncoder() {
             @Override
             public void encode(Object obj, JsonStream stream) throws IOException {
-                stream.writeRaw(obj.toString());
+                stream.writePreciseVal((Float) obj);
             }
 
             @Override
@@ -53,7 +54,7 @@ public class PreciseFloatSupport {
         JsoniterSpi.registerTypeEncoder(float.class, new Encoder.FloatEncoder() {
             @Override
             public void encodeFloat(float obj, JsonStream stream) throws IOException {
-                stream.writeRaw(Float.toString(obj));
+                stream.writePreciseVal(obj);
             }
         });
     }
@@ -0,0 +1,38 @@
+package com.jsoniter.output;
+
+import com.jsoniter.spi.JsonException;
+
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * puts the buffer of JsonStream into the target from its position, heap or direct.
+ * the output is still buffered by JsonStream, the target receives it one flush at a time
+ */
+class ByteBufferOutput extends OutputStream {
+
+    private final ByteBuffer target;
+
+    ByteBufferOutput(ByteBuffer target) {
+        this.target = target;
+    }
+
+    @Override
+    public void write(int b) {
+        try {
+            target.put((byte) b);
+        } catch (BufferOverflowException e) {
+            throw new JsonException("output does not fit in the buffer, remaining: " + target.remaining(), e);
+        }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        try {
+            target.put(b, off, len);
+        } catch (BufferOverflowException e) {
+            throw new JsonException("output does not fit in the buffer, remaining: " + target.remaining(), e);
+        }
+    }
+}
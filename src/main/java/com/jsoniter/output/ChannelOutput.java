@@ -0,0 +1,53 @@
+package com.jsoniter.output;
+
+import com.jsoniter.spi.JsonException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channel;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * flushes the buffer of JsonStream to the channel, wrapping the buffer itself instead of copying it.
+ * the channel must be blocking, a write of a non-blocking channel may take nothing and it would be retried in a busy loop
+ */
+class ChannelOutput extends OutputStream {
+
+    private final WritableByteChannel channel;
+    private ByteBuffer wrapped;
+
+    ChannelOutput(WritableByteChannel channel) {
+        checkBlocking(channel);
+        this.channel = channel;
+    }
+
+    static void checkBlocking(Channel channel) {
+        if (channel instanceof SelectableChannel && !((SelectableChannel) channel).isBlocking()) {
+            throw new JsonException("non-blocking channel is not supported: " + channel);
+        }
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (wrapped == null || wrapped.array() != b) {
+            wrapped = ByteBuffer.wrap(b);
+        }
+        wrapped.limit(off + len);
+        wrapped.position(off);
+        while (wrapped.hasRemaining()) {
+            channel.write(wrapped);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
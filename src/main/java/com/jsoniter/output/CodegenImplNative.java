@@ -242,8 +242,7 @@ class CodegenImplNative {
         put(BigDecimal.class, new Encoder.ReflectionEncoder() {
             @Override
             public void encode(Object obj, JsonStream stream) throws IOException {
-                BigDecimal val = (BigDecimal) obj;
-                stream.writeRaw(val.toString());
+                stream.writeVal((BigDecimal) obj);
             }
 
             @Override
@@ -254,8 +253,7 @@ class CodegenImplNative {
         put(BigInteger.class, new Encoder.ReflectionEncoder() {
             @Override
             public void encode(Object obj, JsonStream stream) throws IOException {
-                BigInteger val = (BigInteger) obj;
-                stream.writeRaw(val.toString());
+                stream.writeVal((BigInteger) obj);
             }
 
             @Override
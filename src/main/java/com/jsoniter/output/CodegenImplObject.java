@@ -113,7 +113,10 @@ class CodegenImplObject {
                 ctx.append(String.format("if (%s == null) { stream.writeNull(); } else {", valueAccessor));
             }
         }
-        if (encoder == null) {
+        if (encoder instanceof Encoder.FixedPointEncoder) {
+            ctx.append(String.format("stream.writeFixedPoint(%s, %d);",
+                    valueAccessor, ((Encoder.FixedPointEncoder) encoder).scale));
+        } else if (encoder == null) {
             CodegenImplNative.genWriteOp(ctx, valueAccessor, binding.valueType, nullable, isCollectionValueNullable);
         } else {
             ctx.append(String.format("com.jsoniter.output.CodegenAccess.writeVal(\"%s\", %s, stream);",
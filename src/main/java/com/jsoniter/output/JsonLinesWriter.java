@@ -0,0 +1,72 @@
+package com.jsoniter.output;
+
+import com.jsoniter.spi.JsonException;
+import com.jsoniter.spi.TypeLiteral;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * write newline delimited json (json lines), one record per line.
+ * records are batched in the buffer, and flushed to the output stream
+ * when maxRecords records or maxBytes bytes are pending
+ */
+public class JsonLinesWriter implements Closeable, Flushable {
+
+    private final JsonStream stream;
+    private final int maxRecords;
+    private final int maxBytes;
+    private int pendingRecords;
+
+    public JsonLinesWriter(OutputStream out) {
+        this(out, 1024, 64 * 1024);
+    }
+
+    public JsonLinesWriter(OutputStream out, int maxRecords, int maxBytes) {
+        // leave room for the record crossing maxBytes, so the buffer is not flushed in the middle of a batch
+        this.stream = new JsonStream(out, Math.max(maxBytes, 512) * 2);
+        // the config is cached by the stream from now on, a record is never written with indention
+        if (stream.currentConfig().indentionStep() != 0) {
+            throw new JsonException("json lines can not be written with indention");
+        }
+        this.maxRecords = maxRecords;
+        this.maxBytes = maxBytes;
+    }
+
+    public void write(Object obj) throws IOException {
+        stream.writeVal(obj);
+        endRecord();
+    }
+
+    public <T> void write(TypeLiteral<T> typeLiteral, T obj) throws IOException {
+        stream.writeVal(typeLiteral, obj);
+        endRecord();
+    }
+
+    /**
+     * @param record json of one record, must not contain line break
+     */
+    public void writeRaw(byte[] record, int off, int len) throws IOException {
+        stream.write(record, off, len);
+        endRecord();
+    }
+
+    private void endRecord() throws IOException {
+        stream.write('\n');
+        pendingRecords++;
+        if (pendingRecords >= maxRecords || stream.count >= maxBytes) {
+            flush();
+        }
+    }
+
+    public void flush() throws IOException {
+        stream.flush();
+        pendingRecords = 0;
+    }
+
+    public void close() throws IOException {
+        stream.close();
+    }
+}
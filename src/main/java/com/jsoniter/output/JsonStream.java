@@ -6,6 +6,11 @@ import com.jsoniter.spi.*;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.WritableByteChannel;
 
 public class JsonStream extends OutputStream {
 
@@ -14,6 +19,8 @@ public class JsonStream extends OutputStream {
     private OutputStream out;
     byte buf[];
     int count;
+    // writing to memory, filled buffers are chained instead of copied on growth
+    Segments segments;
 
     public JsonStream(OutputStream out, int bufSize) {
         if (bufSize < 32) {
@@ -23,14 +30,60 @@ public class JsonStream extends OutputStream {
         this.buf = new byte[bufSize];
     }
 
+    /**
+     * flush to the channel, the buffer is wrapped and written without copying.
+     * the channel must be blocking, JsonException is thrown for a non-blocking SelectableChannel
+     */
+    public static JsonStream forChannel(WritableByteChannel channel, int bufSize) {
+        return new JsonStream(new ChannelOutput(channel), bufSize);
+    }
+
+    /**
+     * flush into the target from its position, heap or direct. JsonException is thrown if the output does not fit,
+     * the part flushed before stays in the target
+     */
+    public static JsonStream forBuffer(ByteBuffer target, int bufSize) {
+        return new JsonStream(new ByteBufferOutput(target), bufSize);
+    }
+
     public void reset(OutputStream out) {
         this.out = out;
         this.count = 0;
+        if (segments != null) {
+            segments.clear();
+        }
+    }
+
+    public void resetChannel(WritableByteChannel channel) {
+        reset(new ChannelOutput(channel));
+    }
+
+    public void resetBuffer(ByteBuffer target) {
+        reset(new ByteBufferOutput(target));
+    }
+
+    /**
+     * when writing to memory, chain buffers of segmentSize instead of growing one buffer.
+     * the output is read by writeTo or toByteArray, without copying it on every growth
+     */
+    public final void enableSegments(int segmentSize) {
+        if (segmentSize < 32) {
+            throw new JsonException("segment size must be larger than 32: " + segmentSize);
+        }
+        segments = new Segments(segmentSize);
+        if (count == 0 && buf.length != segmentSize) {
+            buf = new byte[segmentSize];
+        }
     }
 
     final void ensure(int minimal) throws IOException {
         int available = buf.length - count;
         if (available < minimal) {
+            if (out == null && segments != null) {
+                buf = segments.seal(buf, count, minimal);
+                count = 0;
+                return;
+            }
             if (count > 1024) {
                 flushBuffer();
             }
@@ -95,6 +148,10 @@ public class JsonStream extends OutputStream {
 
     public final void write(byte b[], int off, int len) throws IOException {
         if (out == null) {
+            if (segments != null) {
+                writeSegmented(b, off, len);
+                return;
+            }
             ensure(len);
         } else {
             if (len >= buf.length - count) {
@@ -113,6 +170,20 @@ public class JsonStream extends OutputStream {
         count += len;
     }
 
+    private void writeSegmented(byte b[], int off, int len) throws IOException {
+        int available = buf.length - count;
+        while (len > available) {
+            System.arraycopy(b, off, buf, count, available);
+            count += available;
+            off += available;
+            len -= available;
+            ensure(1);
+            available = buf.length - count;
+        }
+        System.arraycopy(b, off, buf, count, len);
+        count += len;
+    }
+
     public void flush() throws IOException {
         flushBuffer();
         out.flush();
@@ -152,6 +223,20 @@ public class JsonStream extends OutputStream {
     }
 
     public final void writeRaw(String val, int remaining) throws IOException {
+        if (out == null && segments != null) {
+            int i = 0;
+            while (remaining > 0) {
+                if (count == buf.length) {
+                    ensure(1);
+                }
+                int toWrite = Math.min(remaining, buf.length - count);
+                val.getBytes(i, i + toWrite, buf, count);
+                count += toWrite;
+                i += toWrite;
+                remaining -= toWrite;
+            }
+            return;
+        }
         if (out == null) {
             ensure(remaining);
             val.getBytes(0, remaining, buf, count);
@@ -252,7 +337,18 @@ public class JsonStream extends OutputStream {
     }
 
     public final void writeVal(float val) throws IOException {
-        StreamImplNumber.writeFloat(this, val);
+        if (currentConfig().preciseFloat()) {
+            StreamImplDouble.writeFloat(this, val);
+        } else {
+            StreamImplNumber.writeFloat(this, val);
+        }
+    }
+
+    /**
+     * shortest decimal reading back to the same float, whatever the config is
+     */
+    public final void writePreciseVal(float val) throws IOException {
+        StreamImplDouble.writeFloat(this, val);
     }
 
     public final void writeVal(Double val) throws IOException {
@@ -264,7 +360,41 @@ public class JsonStream extends OutputStream {
     }
 
     public final void writeVal(double val) throws IOException {
-        StreamImplNumber.writeDouble(this, val);
+        if (currentConfig().preciseFloat()) {
+            StreamImplDouble.writeDouble(this, val);
+        } else {
+            StreamImplNumber.writeDouble(this, val);
+        }
+    }
+
+    /**
+     * shortest decimal reading back to the same double, whatever the config is
+     */
+    public final void writePreciseVal(double val) throws IOException {
+        StreamImplDouble.writeDouble(this, val);
+    }
+
+    /**
+     * write a long scaled by 10^scale as a decimal, 1234 is written as 12.34 with scale 2
+     */
+    public final void writeFixedPoint(long val, int scale) throws IOException {
+        StreamImplNumber.writeFixedPoint(this, val, scale);
+    }
+
+    public final void writeVal(BigDecimal val) throws IOException {
+        if (val == null) {
+            writeNull();
+        } else {
+            StreamImplNumber.writeBigDecimal(this, val);
+        }
+    }
+
+    public final void writeVal(BigInteger val) throws IOException {
+        if (val == null) {
+            writeNull();
+        } else {
+            StreamImplNumber.writeBigInteger(this, val);
+        }
     }
 
     public final void writeVal(Any val) throws IOException {
@@ -331,6 +461,16 @@ public class JsonStream extends OutputStream {
         }
     }
 
+    // the field is already quoted and escaped
+    final void writeQuotedObjectField(byte[] quotedField) throws IOException {
+        write(quotedField, 0, quotedField.length);
+        if (indention > 0) {
+            write((byte) ':', (byte) ' ');
+        } else {
+            write(':');
+        }
+    }
+
     public final void writeObjectField(Object key) throws IOException {
         Encoder encoder = MapKeyEncoders.registerOrGetExisting(key.getClass());
         writeObjectField(key, encoder);
@@ -400,6 +540,24 @@ public class JsonStream extends OutputStream {
 
     }
 
+    /**
+     * serialize into the target from its position, the target is not flipped.
+     * JsonException is thrown if the output does not fit, the target is left with the part flushed before
+     * and its position after that part
+     */
+    public static void serialize(Object obj, ByteBuffer target) {
+        JsonStream stream = JsonStreamPool.borrowJsonStream();
+        try {
+            stream.resetBuffer(target);
+            stream.writeVal(obj);
+            stream.flushBuffer();
+        } catch (IOException e) {
+            throw new JsonException(e);
+        } finally {
+            JsonStreamPool.returnJsonStream(stream);
+        }
+    }
+
     public static void serialize(Object obj, OutputStream out) {
         JsonStream stream = JsonStreamPool.borrowJsonStream();
         try {
@@ -524,7 +682,69 @@ public class JsonStream extends OutputStream {
         CodegenImplNative.NATIVE_ENCODERS.put(clazz, encoder);
     }
 
+    /**
+     * @return the output written to memory, segments are copied into one buffer first
+     */
     public Slice buffer() {
+        if (segments != null && segments.count > 0) {
+            byte[] bytes = toByteArray();
+            segments.clear();
+            buf = bytes;
+            count = bytes.length;
+        }
         return new Slice(buf, 0, count);
     }
+
+    /**
+     * @return bytes written to memory
+     */
+    public final int size() {
+        return segments == null ? count : segments.bytes + count;
+    }
+
+    /**
+     * @return the output written to memory, copied once into a byte[] of exact size
+     */
+    public final byte[] toByteArray() {
+        byte[] bytes = new byte[size()];
+        int pos = 0;
+        if (segments != null) {
+            for (int i = 0; i < segments.count; i++) {
+                System.arraycopy(segments.sealed[i], 0, bytes, pos, segments.lengths[i]);
+                pos += segments.lengths[i];
+            }
+        }
+        System.arraycopy(buf, 0, bytes, pos, count);
+        return bytes;
+    }
+
+    /**
+     * write the output in memory to the stream, segment by segment
+     */
+    public final void writeTo(OutputStream target) throws IOException {
+        if (segments != null) {
+            for (int i = 0; i < segments.count; i++) {
+                target.write(segments.sealed[i], 0, segments.lengths[i]);
+            }
+        }
+        target.write(buf, 0, count);
+    }
+
+    /**
+     * write the output in memory to the channel, all segments are handed to one gathering write.
+     * the channel must be blocking, JsonException is thrown for a non-blocking SelectableChannel
+     */
+    public final void writeTo(GatheringByteChannel channel) throws IOException {
+        ChannelOutput.checkBlocking(channel);
+        int segmentCount = segments == null ? 0 : segments.count;
+        ByteBuffer[] buffers = new ByteBuffer[segmentCount + 1];
+        for (int i = 0; i < segmentCount; i++) {
+            buffers[i] = ByteBuffer.wrap(segments.sealed[i], 0, segments.lengths[i]);
+        }
+        buffers[segmentCount] = ByteBuffer.wrap(buf, 0, count);
+        long remaining = size();
+        while (remaining > 0) {
+            remaining -= channel.write(buffers);
+        }
+    }
 }
@@ -1,35 +1,55 @@
 package com.jsoniter.output;
 
-public class JsonStreamPool {
+import com.jsoniter.spi.JsoniterSpi;
+import com.jsoniter.spi.ObjectPool;
+import com.jsoniter.spi.PoolStrategy;
 
-    private final static ThreadLocal<JsonStream> slot1 = new ThreadLocal<JsonStream>();
-    private final static ThreadLocal<JsonStream> slot2 = new ThreadLocal<JsonStream>();
+public class JsonStreamPool {
 
-    public static JsonStream borrowJsonStream() {
-        JsonStream stream = slot1.get();
-        if (stream != null) {
-            slot1.set(null);
-            return stream;
+    private final static ObjectPool.Recycler<JsonStream> RECYCLER = new ObjectPool.Recycler<JsonStream>() {
+        @Override
+        public JsonStream create() {
+            return new JsonStream(null, 512);
         }
-        stream = slot2.get();
-        if (stream != null) {
-            slot2.set(null);
-            return stream;
+
+        @Override
+        public boolean recycle(JsonStream stream, int maxBufferSize) {
+            stream.configCache = null;
+            stream.indention = 0;
+            stream.reset(null);
+            if (stream.buf.length > maxBufferSize) {
+                stream.buf = new byte[512];
+            }
+            if (stream.segments != null) {
+                stream.segments.trim(maxBufferSize);
+            }
+            return true;
         }
-        return new JsonStream(null, 512);
+    };
+    private static volatile PoolStrategy poolStrategy;
+    private static volatile ObjectPool<JsonStream> pool;
+
+    public static JsonStream borrowJsonStream() {
+        return pool().borrow();
     }
 
     public static void returnJsonStream(JsonStream jsonStream) {
-        jsonStream.configCache = null;
-        jsonStream.indention = 0;
-        if (slot1.get() == null) {
-            slot1.set(jsonStream);
-            return;
-        }
-        if (slot2.get() == null) {
-            slot2.set(jsonStream);
-            return;
+        pool().release(jsonStream);
+    }
+
+    private static ObjectPool<JsonStream> pool() {
+        PoolStrategy strategy = JsoniterSpi.getPoolStrategy();
+        if (strategy != poolStrategy) {
+            return newPool(strategy);
         }
+        return pool;
     }
 
+    private static synchronized ObjectPool<JsonStream> newPool(PoolStrategy strategy) {
+        if (strategy != poolStrategy) {
+            pool = strategy.newPool(RECYCLER);
+            poolStrategy = strategy;
+        }
+        return pool;
+    }
 }
@@ -4,6 +4,7 @@ import com.jsoniter.spi.*;
 import com.jsoniter.any.Any;
 
 import java.io.IOException;
+import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -11,9 +12,34 @@ import java.util.Map;
 
 class ReflectionObjectEncoder implements Encoder.ReflectionEncoder {
 
+    // primitive fields without encoder are read by Field.getXxx and written without boxing
+    private final static int KIND_OBJECT = 0;
+    private final static int KIND_INT = 1;
+    private final static int KIND_LONG = 2;
+    private final static int KIND_BOOLEAN = 3;
+    private final static int KIND_DOUBLE = 4;
+    private final static int KIND_FLOAT = 5;
+    private final static int KIND_SHORT = 6;
+
+    private static class Property {
+        final EncodeTo encodeTo;
+        final Binding binding;
+        final byte[] quotedName;
+        final int kind;
+
+        Property(EncodeTo encodeTo, byte[] quotedName, int kind) {
+            this.encodeTo = encodeTo;
+            this.binding = encodeTo.binding;
+            this.quotedName = quotedName;
+            this.kind = kind;
+        }
+    }
+
     private final ClassDescriptor desc;
     private final List<EncodeTo> fields = new ArrayList<EncodeTo>();
     private final List<EncodeTo> getters = new ArrayList<EncodeTo>();
+    private final Property[] fieldProperties;
+    private final Property[] getterProperties;
 
     public ReflectionObjectEncoder(ClassInfo classInfo) {
         desc = ClassDescriptor.getEncodingClassDescriptor(classInfo, true);
@@ -29,6 +55,60 @@ class ReflectionObjectEncoder implements Encoder.ReflectionEncoder {
                 getters.add(encodeTo);
             }
         }
+        fieldProperties = properties(fields);
+        getterProperties = properties(getters);
+    }
+
+    // names are escaped once with the config creating this encoder, same as the encoder cache key
+    private static Property[] properties(List<EncodeTo> encodeTos) {
+        Property[] properties = new Property[encodeTos.size()];
+        JsonStream nameStream = new JsonStream(null, 64);
+        try {
+            for (int i = 0; i < properties.length; i++) {
+                EncodeTo encodeTo = encodeTos.get(i);
+                nameStream.reset(null);
+                nameStream.writeVal(encodeTo.toName);
+                byte[] quotedName = new byte[nameStream.count];
+                System.arraycopy(nameStream.buf, 0, quotedName, 0, quotedName.length);
+                properties[i] = new Property(encodeTo, quotedName, kindOf(encodeTo.binding));
+            }
+        } catch (IOException e) {
+            throw new JsonException(e);
+        }
+        return properties;
+    }
+
+    private static int kindOf(Binding binding) {
+        if (binding.field == null || binding.encoder != null || binding.defaultValueToOmit != null) {
+            return KIND_OBJECT;
+        }
+        Class type = binding.field.getType();
+        int kind = KIND_OBJECT;
+        Class boxed = null;
+        if (type == int.class) {
+            kind = KIND_INT;
+            boxed = Integer.class;
+        } else if (type == long.class) {
+            kind = KIND_LONG;
+            boxed = Long.class;
+        } else if (type == boolean.class) {
+            kind = KIND_BOOLEAN;
+            boxed = Boolean.class;
+        } else if (type == double.class) {
+            kind = KIND_DOUBLE;
+            boxed = Double.class;
+        } else if (type == float.class) {
+            kind = KIND_FLOAT;
+            boxed = Float.class;
+        } else if (type == short.class) {
+            kind = KIND_SHORT;
+            boxed = Short.class;
+        }
+        if (boxed != null && JsoniterSpi.getEncoder(TypeLiteral.create(boxed).getEncoderCacheKey()) != null) {
+            // the boxed value used to go through the encoder registered for the box type
+            return KIND_OBJECT;
+        }
+        return kind;
     }
 
     @Override
@@ -69,13 +149,18 @@ class ReflectionObjectEncoder implements Encoder.ReflectionEncoder {
         }
         stream.writeObjectStart();
         boolean notFirst = false;
-        for (EncodeTo encodeTo : fields) {
-            Object val = encodeTo.binding.field.get(obj);
-            notFirst = writeEncodeTo(stream, notFirst, encodeTo, val);
+        for (Property property : fieldProperties) {
+            if (property.kind != KIND_OBJECT) {
+                notFirst = writeFieldName(stream, notFirst, property);
+                writePrimitive(obj, stream, property);
+                continue;
+            }
+            Object val = property.binding.field.get(obj);
+            notFirst = writeProperty(stream, notFirst, property, val);
         }
-        for (EncodeTo encodeTo : getters) {
-            Object val = encodeTo.binding.method.invoke(obj);
-            notFirst = writeEncodeTo(stream, notFirst, encodeTo, val);
+        for (Property property : getterProperties) {
+            Object val = property.binding.method.invoke(obj);
+            notFirst = writeProperty(stream, notFirst, property, val);
         }
         for (UnwrapperDescriptor unwrapper : desc.unwrappers) {
             if (unwrapper.isMap) {
@@ -105,22 +190,49 @@ class ReflectionObjectEncoder implements Encoder.ReflectionEncoder {
         }
     }
 
-    private boolean writeEncodeTo(JsonStream stream, boolean notFirst, EncodeTo encodeTo, Object val) throws IOException {
-        OmitValue defaultValueToOmit = encodeTo.binding.defaultValueToOmit;
+    private static boolean writeProperty(JsonStream stream, boolean notFirst, Property property, Object val) throws IOException {
+        OmitValue defaultValueToOmit = property.binding.defaultValueToOmit;
         if (!(defaultValueToOmit != null && defaultValueToOmit.shouldOmit(val))) {
-            if (notFirst) {
-                stream.writeMore();
-            } else {
-                stream.writeIndention();
-                notFirst = true;
-            }
-            stream.writeObjectField(encodeTo.toName);
-            if (encodeTo.binding.encoder != null) {
-                encodeTo.binding.encoder.encode(val, stream);
+            notFirst = writeFieldName(stream, notFirst, property);
+            if (property.binding.encoder != null) {
+                property.binding.encoder.encode(val, stream);
             } else {
                 stream.writeVal(val);
             }
         }
         return notFirst;
     }
+
+    private static boolean writeFieldName(JsonStream stream, boolean notFirst, Property property) throws IOException {
+        if (notFirst) {
+            stream.writeMore();
+        } else {
+            stream.writeIndention();
+        }
+        stream.writeQuotedObjectField(property.quotedName);
+        return true;
+    }
+
+    private static void writePrimitive(Object obj, JsonStream stream, Property property) throws IllegalAccessException, IOException {
+        Field field = property.binding.field;
+        switch (property.kind) {
+            case KIND_INT:
+                stream.writeVal(field.getInt(obj));
+                break;
+            case KIND_LONG:
+                stream.writeVal(field.getLong(obj));
+                break;
+            case KIND_BOOLEAN:
+                stream.writeVal(field.getBoolean(obj));
+                break;
+            case KIND_DOUBLE:
+                stream.writeVal(field.getDouble(obj));
+                break;
+            case KIND_FLOAT:
+                stream.writeVal(field.getFloat(obj));
+                break;
+            default:
+                stream.writeVal(field.getShort(obj));
+        }
+    }
 }
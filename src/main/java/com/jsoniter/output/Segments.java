@@ -0,0 +1,71 @@
+package com.jsoniter.output;
+
+/**
+ * the filled buffers of a JsonStream writing to memory, chained instead of copied into a larger buffer.
+ * cleared segments are kept as spares, the next output reuses them
+ */
+class Segments {
+
+    final int segmentSize;
+    byte[][] sealed = new byte[8][];
+    int[] lengths = new int[8];
+    int count;
+    int bytes;
+    private byte[][] spares = new byte[8][];
+    private int spareCount;
+
+    Segments(int segmentSize) {
+        this.segmentSize = segmentSize;
+    }
+
+    /**
+     * @param buf     the filled buffer
+     * @param len     bytes written in it
+     * @param minimal space needed in the next buffer
+     * @return the next buffer
+     */
+    byte[] seal(byte[] buf, int len, int minimal) {
+        if (count == sealed.length) {
+            byte[][] newSealed = new byte[count * 2][];
+            System.arraycopy(sealed, 0, newSealed, 0, count);
+            sealed = newSealed;
+            int[] newLengths = new int[count * 2];
+            System.arraycopy(lengths, 0, newLengths, 0, count);
+            lengths = newLengths;
+        }
+        sealed[count] = buf;
+        lengths[count++] = len;
+        bytes += len;
+        if (spareCount > 0 && minimal <= segmentSize) {
+            byte[] spare = spares[--spareCount];
+            spares[spareCount] = null;
+            return spare;
+        }
+        return new byte[Math.max(segmentSize, minimal)];
+    }
+
+    void clear() {
+        for (int i = 0; i < count; i++) {
+            byte[] segment = sealed[i];
+            sealed[i] = null;
+            if (segment.length != segmentSize) {
+                continue;
+            }
+            if (spareCount == spares.length) {
+                byte[][] newSpares = new byte[spareCount * 2][];
+                System.arraycopy(spares, 0, newSpares, 0, spareCount);
+                spares = newSpares;
+            }
+            spares[spareCount++] = segment;
+        }
+        count = 0;
+        bytes = 0;
+    }
+
+    void trim(int maxBytes) {
+        int keep = maxBytes / segmentSize;
+        while (spareCount > keep) {
+            spares[--spareCount] = null;
+        }
+    }
+}
@@ -0,0 +1,330 @@
+package com.jsoniter.output;
+
+import java.io.IOException;
+import java.math.BigInteger;
+
+/**
+ * shortest decimal that reads back to the same double or float (schubfach), written straight into the buffer.
+ * plain notation for 1e-6 <= |v| < 1e21, otherwise 1.5e-7 or 1e+21, like javascript Number.toString
+ */
+class StreamImplDouble {
+
+    private final static int K_MIN = -324;
+    private final static int K_MAX = 292;
+    // g = G[2(k - K_MIN)] 2^63 + G[2(k - K_MIN) + 1] = floor(10^-k 2^-r) + 1, 2^125 <= g < 2^126
+    private final static long[] G = new long[(K_MAX - K_MIN + 1) * 2];
+
+    private final static int DOUBLE_Q_MIN = -1074;
+    private final static long DOUBLE_C_MIN = 1L << 52;
+    private final static long DOUBLE_C_TINY = 3;
+    private final static int FLOAT_Q_MIN = -149;
+    private final static int FLOAT_C_MIN = 1 << 23;
+    private final static int FLOAT_C_TINY = 8;
+    private final static long MASK_63 = (1L << 63) - 1;
+    private final static long MASK_32 = (1L << 32) - 1;
+    private final static long[] POW10 = new long[19];
+
+    static {
+        POW10[0] = 1;
+        for (int i = 1; i < POW10.length; i++) {
+            POW10[i] = POW10[i - 1] * 10;
+        }
+        BigInteger mask63 = BigInteger.ONE.shiftLeft(63).subtract(BigInteger.ONE);
+        for (int k = K_MIN; k <= K_MAX; k++) {
+            int r = flog2pow10(-k) - 125;
+            BigInteger pow10 = BigInteger.TEN.pow(Math.abs(k));
+            BigInteger beta;
+            if (k <= 0) {
+                beta = r >= 0 ? pow10.shiftRight(r) : pow10.shiftLeft(-r);
+            } else {
+                beta = BigInteger.ONE.shiftLeft(-r).divide(pow10);
+            }
+            BigInteger g = beta.add(BigInteger.ONE);
+            G[(k - K_MIN) * 2] = g.shiftRight(63).longValue();
+            G[(k - K_MIN) * 2 + 1] = g.and(mask63).longValue();
+        }
+    }
+
+    // floor(log10(2^q))
+    private static int flog10pow2(int q) {
+        return (int) (q * 661971961083L >> 41);
+    }
+
+    // floor(log10(3/4 2^q))
+    private static int flog10threeQuartersPow2(int q) {
+        return (int) (q * 661971961083L - 274743187321L >> 41);
+    }
+
+    // floor(log2(10^e))
+    private static int flog2pow10(int e) {
+        return (int) (e * 913124641741L >> 38);
+    }
+
+    public static final void writeDouble(JsonStream stream, double val) throws IOException {
+        long bits = Double.doubleToRawLongBits(val);
+        long t = bits & (DOUBLE_C_MIN - 1);
+        int bq = (int) (bits >>> 52) & 0x7FF;
+        if (bq == 0x7FF) {
+            stream.writeVal(Double.toString(val)); // quoted like the default encoding
+            return;
+        }
+        stream.ensure(32);
+        if (bits < 0) {
+            stream.buf[stream.count++] = '-';
+        }
+        if (bq != 0) {
+            int mq = -DOUBLE_Q_MIN + 1 - bq;
+            long c = DOUBLE_C_MIN | t;
+            if (0 < mq && mq < 53) {
+                long f = c >> mq;
+                if (f << mq == c) {
+                    // integer below 2^53
+                    writeDecimal(stream, f, 0);
+                    return;
+                }
+            }
+            toDecimal(stream, -mq, c, 0);
+        } else if (t != 0) {
+            if (t < DOUBLE_C_TINY) {
+                toDecimal(stream, DOUBLE_Q_MIN, 10 * t, -1);
+            } else {
+                toDecimal(stream, DOUBLE_Q_MIN, t, 0);
+            }
+        } else {
+            stream.buf[stream.count++] = '0';
+        }
+    }
+
+    private static void toDecimal(JsonStream stream, int q, long c, int dk) {
+        int out = (int) c & 0x1;
+        long cb = c << 2;
+        long cbr = cb + 2;
+        long cbl;
+        int k;
+        if (c != DOUBLE_C_MIN || q == DOUBLE_Q_MIN) {
+            cbl = cb - 2;
+            k = flog10pow2(q);
+        } else {
+            // the gap below is half of the gap above
+            cbl = cb - 1;
+            k = flog10threeQuartersPow2(q);
+        }
+        int h = q + flog2pow10(-k) + 2;
+        long g1 = G[(k - K_MIN) * 2];
+        long g0 = G[(k - K_MIN) * 2 + 1];
+        long vb = rop(g1, g0, cb << h);
+        long vbl = rop(g1, g0, cbl << h);
+        long vbr = rop(g1, g0, cbr << h);
+        long s = vb >> 2;
+        if (s >= 100) {
+            // s / 10 = s 115292150460684698 / 2^60
+            long sp10 = 10 * multiplyHigh(s, 115292150460684698L << 4);
+            long tp10 = sp10 + 10;
+            boolean upin = vbl + out <= sp10 << 2;
+            boolean wpin = (tp10 << 2) + out <= vbr;
+            if (upin != wpin) {
+                writeDecimal(stream, upin ? sp10 : tp10, k);
+                return;
+            }
+        }
+        long t = s + 1;
+        boolean uin = vbl + out <= s << 2;
+        boolean win = (t << 2) + out <= vbr;
+        if (uin != win) {
+            writeDecimal(stream, uin ? s : t, k + dk);
+            return;
+        }
+        // both are in the rounding interval, take the closest
+        long cmp = vb - (s + t << 1);
+        writeDecimal(stream, cmp < 0 || cmp == 0 && (s & 0x1) == 0 ? s : t, k + dk);
+    }
+
+    // round to odd of cp g 2^-127
+    private static long rop(long g1, long g0, long cp) {
+        long x1 = multiplyHigh(g0, cp);
+        long y0 = g1 * cp;
+        long y1 = multiplyHigh(g1, cp);
+        long z = (y0 >>> 1) + x1;
+        long vbp = y1 + (z >>> 63);
+        return vbp | (z & MASK_63) + MASK_63 >>> 63;
+    }
+
+    public static final void writeFloat(JsonStream stream, float val) throws IOException {
+        int bits = Float.floatToRawIntBits(val);
+        int t = bits & (FLOAT_C_MIN - 1);
+        int bq = (bits >>> 23) & 0xFF;
+        if (bq == 0xFF) {
+            stream.writeVal(Float.toString(val));
+            return;
+        }
+        stream.ensure(32);
+        if (bits < 0) {
+            stream.buf[stream.count++] = '-';
+        }
+        if (bq != 0) {
+            int mq = -FLOAT_Q_MIN + 1 - bq;
+            int c = FLOAT_C_MIN | t;
+            if (0 < mq && mq < 24) {
+                int f = c >> mq;
+                if (f << mq == c) {
+                    writeDecimal(stream, f, 0);
+                    return;
+                }
+            }
+            toDecimal(stream, -mq, c, 0);
+        } else if (t != 0) {
+            if (t < FLOAT_C_TINY) {
+                toDecimal(stream, FLOAT_Q_MIN, 10 * t, -1);
+            } else {
+                toDecimal(stream, FLOAT_Q_MIN, t, 0);
+            }
+        } else {
+            stream.buf[stream.count++] = '0';
+        }
+    }
+
+    private static void toDecimal(JsonStream stream, int q, int c, int dk) {
+        int out = c & 0x1;
+        long cb = (long) c << 2;
+        long cbr = cb + 2;
+        long cbl;
+        int k;
+        if (c != FLOAT_C_MIN || q == FLOAT_Q_MIN) {
+            cbl = cb - 2;
+            k = flog10pow2(q);
+        } else {
+            cbl = cb - 1;
+            k = flog10threeQuartersPow2(q);
+        }
+        int h = q + flog2pow10(-k) + 33;
+        long g = G[(k - K_MIN) * 2] + 1;
+        int vb = rop(g, cb << h);
+        int vbl = rop(g, cbl << h);
+        int vbr = rop(g, cbr << h);
+        int s = vb >> 2;
+        if (s >= 100) {
+            // s / 10 = s 1717986919 / 2^34
+            int sp10 = 10 * (int) (s * 1717986919L >>> 34);
+            int tp10 = sp10 + 10;
+            boolean upin = vbl + out <= sp10 << 2;
+            boolean wpin = (tp10 << 2) + out <= vbr;
+            if (upin != wpin) {
+                writeDecimal(stream, upin ? sp10 : tp10, k);
+                return;
+            }
+        }
+        int t = s + 1;
+        boolean uin = vbl + out <= s << 2;
+        boolean win = (t << 2) + out <= vbr;
+        if (uin != win) {
+            writeDecimal(stream, uin ? s : t, k + dk);
+            return;
+        }
+        int cmp = vb - (s + t << 1);
+        writeDecimal(stream, cmp < 0 || cmp == 0 && (s & 0x1) == 0 ? s : t, k + dk);
+    }
+
+    private static int rop(long g, long cp) {
+        long x1 = multiplyHigh(g, cp);
+        long vbp = x1 >>> 31;
+        return (int) (vbp | (x1 & MASK_32) + MASK_32 >>> 32);
+    }
+
+    // high 64 bits of the product, both are not negative
+    private static long multiplyHigh(long x, long y) {
+        long x0 = x & 0xFFFFFFFFL;
+        long x1 = x >>> 32;
+        long y0 = y & 0xFFFFFFFFL;
+        long y1 = y >>> 32;
+        long t = x1 * y0 + ((x0 * y0) >>> 32);
+        long w1 = x0 * y1 + (t & 0xFFFFFFFFL);
+        return x1 * y1 + (t >>> 32) + (w1 >>> 32);
+    }
+
+    // f 10^e, at most 32 bytes, ensured by the caller
+    private static void writeDecimal(JsonStream stream, long f, int e) {
+        while (f % 10 == 0) {
+            f /= 10;
+            e++;
+        }
+        byte[] buf = stream.buf;
+        int pos = stream.count;
+        int len = flog10pow2(64 - Long.numberOfLeadingZeros(f));
+        if (f >= POW10[len]) {
+            len++;
+        }
+        // v = 0.d1d2d3... 10^n
+        int n = e + len;
+        if (n > 21 || n <= -6) {
+            // d1.d2d3...e+xx
+            writeDigits(buf, pos + 1, f, len);
+            buf[pos] = buf[pos + 1];
+            pos += len;
+            if (len > 1) {
+                buf[stream.count + 1] = '.';
+                pos++;
+            }
+            buf[pos++] = 'e';
+            int exp = n - 1;
+            if (exp < 0) {
+                buf[pos++] = '-';
+                exp = -exp;
+            } else {
+                buf[pos++] = '+';
+            }
+            if (exp >= 100) {
+                buf[pos++] = (byte) ('0' + exp / 100);
+                exp %= 100;
+                buf[pos++] = (byte) ('0' + exp / 10);
+            } else if (exp >= 10) {
+                buf[pos++] = (byte) ('0' + exp / 10);
+            }
+            buf[pos++] = (byte) ('0' + exp % 10);
+        } else if (n <= 0) {
+            // 0.000ddd
+            buf[pos++] = '0';
+            buf[pos++] = '.';
+            for (int i = n; i < 0; i++) {
+                buf[pos++] = '0';
+            }
+            writeDigits(buf, pos, f, len);
+            pos += len;
+        } else if (n >= len) {
+            // ddd000
+            writeDigits(buf, pos, f, len);
+            pos += len;
+            for (int i = len; i < n; i++) {
+                buf[pos++] = '0';
+            }
+        } else {
+            // dd.ddd
+            writeDigits(buf, pos, f, len);
+            System.arraycopy(buf, pos + n, buf, pos + n + 1, len - n);
+            buf[pos + n] = '.';
+            pos += len + 1;
+        }
+        stream.count = pos;
+    }
+
+    // the last len digits of f, written to buf[pos, pos + len)
+    private static void writeDigits(byte[] buf, int pos, long f, int len) {
+        int i = pos + len;
+        // long division is slow, split into 8 digits ints
+        while (i - pos > 9) {
+            long q = f / 100000000L;
+            int r = (int) (f - q * 100000000L);
+            for (int j = 0; j < 8; j++) {
+                int rq = r / 10;
+                buf[--i] = (byte) ('0' + r - rq * 10);
+                r = rq;
+            }
+            f = q;
+        }
+        int r = (int) f;
+        while (i > pos) {
+            int rq = r / 10;
+            buf[--i] = (byte) ('0' + r - rq * 10);
+            r = rq;
+        }
+    }
+}
@@ -32,6 +32,8 @@ OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
 package com.jsoniter.output;
 
 import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 
 class StreamImplNumber {
 
@@ -282,4 +284,60 @@ class StreamImplNumber {
         }
     }
 
+    private static final long LONG_POW10[] = {
+            1, 10, 100, 1000, 10000, 100000, 1000000, 10000000, 100000000,
+            1000000000, 10000000000L, 100000000000L, 1000000000000L,
+            10000000000000L, 100000000000000L, 1000000000000000L,
+            10000000000000000L, 100000000000000000L, 1000000000000000000L};
+
+    // same text as BigDecimal.toString, without building it when the unscaled value fits in long
+    public static final void writeBigDecimal(JsonStream stream, BigDecimal val) throws IOException {
+        int scale = val.scale();
+        if (scale < 0 || scale > 18 || val.precision() > 18) {
+            stream.writeRaw(val.toString());
+            return;
+        }
+        long unscaled = val.unscaledValue().longValue();
+        if (scale > 6 && Math.abs(unscaled) < LONG_POW10[scale - 6]) {
+            // toString switches to scientific notation when the exponent is below -6
+            stream.writeRaw(val.toString());
+            return;
+        }
+        writeFixedPoint(stream, unscaled, scale);
+    }
+
+    // unscaled 10^-scale with exactly scale digits after the decimal point
+    public static final void writeFixedPoint(JsonStream stream, long unscaled, int scale) throws IOException {
+        if (scale == 0) {
+            writeLong(stream, unscaled);
+            return;
+        }
+        long pow10 = LONG_POW10[scale];
+        long integer = unscaled / pow10;
+        long fraction = unscaled % pow10;
+        if (unscaled < 0) {
+            // negated after dividing, Long.MIN_VALUE can not be negated
+            stream.write('-');
+            integer = -integer;
+            fraction = -fraction;
+        }
+        writeLong(stream, integer);
+        stream.ensure(scale + 1);
+        byte[] buf = stream.buf;
+        int pos = stream.count;
+        buf[pos] = '.';
+        for (int i = pos + scale; i > pos; i--) {
+            buf[i] = (byte) ('0' + fraction % 10);
+            fraction /= 10;
+        }
+        stream.count = pos + scale + 1;
+    }
+
+    public static final void writeBigInteger(JsonStream stream, BigInteger val) throws IOException {
+        if (val.bitLength() < 64) {
+            writeLong(stream, val.longValue());
+        } else {
+            stream.writeRaw(val.toString());
+        }
+    }
 }
@@ -0,0 +1,19 @@
+package com.jsoniter.spi;
+
+public class AsciiHelper {
+
+    /**
+     * build the String of bytes the caller has verified to be ascii, without a charset decoder or a char[] in between
+     *
+     * @param buf   ascii bytes
+     * @param start first byte
+     * @param end   after the last byte
+     * @return the string, one char per byte
+     */
+    // the deprecated constructor uses each byte as the low 8 bits of a char (latin-1).
+    // it is safe here because ascii bytes are the same chars in latin-1 and in utf-8
+    @SuppressWarnings("deprecation")
+    public static String newString(byte[] buf, int start, int end) {
+        return new String(buf, 0, start, end - start);
+    }
+}
@@ -94,6 +94,18 @@ public class Config extends EmptyExtension {
         return builder.escapeUnicode;
     }
 
+    public boolean preciseFloat() {
+        return builder.preciseFloat;
+    }
+
+    public int fixedPointScale() {
+        return builder.fixedPointScale;
+    }
+
+    public StringCache stringCache() {
+        return builder.stringCache;
+    }
+
     public EncodingMode encodingMode() {
         return builder.encodingMode;
     }
@@ -105,6 +117,9 @@ public class Config extends EmptyExtension {
         private int indentionStep;
         private boolean escapeUnicode = true;
         private boolean omitDefaultValue = false;
+        private boolean preciseFloat = false;
+        private int fixedPointScale = 2;
+        private StringCache stringCache;
 
         public Builder() {
             String envMode = System.getenv("JSONITER_DECODING_MODE");
@@ -146,6 +161,36 @@ public class Config extends EmptyExtension {
             return this;
         }
 
+        /**
+         * write float and double as the shortest decimal reading back to the same value,
+         * instead of rounding to 6 decimal places
+         */
+        public Builder preciseFloat(boolean preciseFloat) {
+            this.preciseFloat = preciseFloat;
+            return this;
+        }
+
+        /**
+         * digits after the decimal point of @JsonFixedPoint fields not setting their own scale,
+         * 2 for cents, 6 for micros
+         */
+        public Builder fixedPointScale(int fixedPointScale) {
+            if (fixedPointScale < 0 || fixedPointScale > 18) {
+                throw new IllegalArgumentException("fixed point scale must be within 0~18: " + fixedPointScale);
+            }
+            this.fixedPointScale = fixedPointScale;
+            return this;
+        }
+
+        /**
+         * decode all String fields through the cache, for payloads mostly made of low cardinality strings.
+         * a single field can use its own cache by @JsonDedup instead
+         */
+        public Builder stringCache(StringCache stringCache) {
+            this.stringCache = stringCache;
+            return this;
+        }
+
         public Config build() {
             String configName = JsoniterSpi.assignConfigName(this);
             Config config = configs.get(configName);
@@ -180,6 +225,9 @@ public class Config extends EmptyExtension {
             if (escapeUnicode != builder.escapeUnicode) return false;
             if (decodingMode != builder.decodingMode) return false;
             if (omitDefaultValue != builder.omitDefaultValue) return false;
+            if (preciseFloat != builder.preciseFloat) return false;
+            if (fixedPointScale != builder.fixedPointScale) return false;
+            if (stringCache != builder.stringCache) return false;
             return encodingMode == builder.encodingMode;
         }
 
@@ -190,6 +238,9 @@ public class Config extends EmptyExtension {
             result = 31 * result + indentionStep;
             result = 31 * result + (escapeUnicode ? 1 : 0);
             result = 31 * result + (omitDefaultValue ? 1 : 0);
+            result = 31 * result + (preciseFloat ? 1 : 0);
+            result = 31 * result + fixedPointScale;
+            result = 31 * result + (stringCache != null ? stringCache.hashCode() : 0);
             return result;
         }
 
@@ -200,6 +251,9 @@ public class Config extends EmptyExtension {
             builder.indentionStep = indentionStep;
             builder.escapeUnicode = escapeUnicode;
             builder.omitDefaultValue = omitDefaultValue;
+            builder.preciseFloat = preciseFloat;
+            builder.fixedPointScale = fixedPointScale;
+            builder.stringCache = stringCache;
             return builder;
         }
 
@@ -211,6 +265,9 @@ public class Config extends EmptyExtension {
                     ", indentionStep=" + indentionStep +
                     ", escapeUnicode=" + escapeUnicode +
                     ", omitDefaultValue=" + omitDefaultValue +
+                    ", preciseFloat=" + preciseFloat +
+                    ", fixedPointScale=" + fixedPointScale +
+                    ", stringCache=" + stringCache +
                     '}';
         }
     }
@@ -393,6 +450,7 @@ public class Config extends EmptyExtension {
 
     private void updateBindings(ClassDescriptor desc) {
         boolean globalOmitDefault = JsoniterSpi.getCurrentConfig().omitDefaultValue();
+        StringCache globalStringCache = JsoniterSpi.getCurrentConfig().stringCache();
         for (Binding binding : desc.allBindings()) {
             boolean annotated = false;
             JsonIgnore jsonIgnore = getJsonIgnore(binding.annotations);
@@ -420,6 +478,21 @@ public class Config extends EmptyExtension {
                 annotated = true;
                 updateBindingWithJsonProperty(binding, jsonProperty);
             }
+            JsonFixedPoint jsonFixedPoint = getAnnotation(binding.annotations, JsonFixedPoint.class);
+            if (jsonFixedPoint != null) {
+                annotated = true;
+                updateBindingWithJsonFixedPoint(binding, jsonFixedPoint);
+            }
+            JsonDedup jsonDedup = getAnnotation(binding.annotations, JsonDedup.class);
+            if (jsonDedup != null) {
+                annotated = true;
+                if (binding.valueType != String.class) {
+                    throw new JsonException("@JsonDedup only applies to String: " + binding.clazz + "." + binding.name);
+                }
+                binding.decoder = new Decoder.StringCacheDecoder(new StringCache(jsonDedup.capacity()));
+            } else if (globalStringCache != null && binding.valueType == String.class && binding.decoder == null) {
+                binding.decoder = new Decoder.StringCacheDecoder(globalStringCache);
+            }
             if (getAnnotation(binding.annotations, JsonMissingProperties.class) != null) {
                 annotated = true;
                 // this binding will not bind from json
@@ -455,6 +528,20 @@ public class Config extends EmptyExtension {
         }
     }
 
+    private void updateBindingWithJsonFixedPoint(Binding binding, JsonFixedPoint jsonFixedPoint) {
+        if (binding.valueType != long.class) {
+            throw new JsonException("@JsonFixedPoint only applies to long: " + binding.clazz + "." + binding.name);
+        }
+        int scale = jsonFixedPoint.value();
+        if (scale == -1) {
+            scale = JsoniterSpi.getCurrentConfig().fixedPointScale();
+        } else if (scale < 0 || scale > 18) {
+            throw new JsonException("fixed point scale must be within 0~18: " + binding.clazz + "." + binding.name);
+        }
+        binding.decoder = new Decoder.FixedPointDecoder(scale);
+        binding.encoder = new Encoder.FixedPointEncoder(scale);
+    }
+
     private void updateBindingWithJsonProperty(Binding binding, JsonProperty jsonProperty) {
         binding.asMissingWhenNotPresent = jsonProperty.required();
         binding.isNullable = jsonProperty.nullable();
@@ -50,6 +50,34 @@ public interface Decoder {
         public abstract long decodeLong(JsonIterator iter) throws IOException;
     }
 
+    class FixedPointDecoder extends LongDecoder {
+
+        public final int scale;
+
+        public FixedPointDecoder(int scale) {
+            this.scale = scale;
+        }
+
+        @Override
+        public long decodeLong(JsonIterator iter) throws IOException {
+            return iter.readFixedPoint(scale);
+        }
+    }
+
+    class StringCacheDecoder implements Decoder {
+
+        public final StringCache cache;
+
+        public StringCacheDecoder(StringCache cache) {
+            this.cache = cache;
+        }
+
+        @Override
+        public Object decode(JsonIterator iter) throws IOException {
+            return iter.readString(cache);
+        }
+    }
+
     abstract class FloatDecoder implements Decoder {
         @Override
         public Object decode(JsonIterator iter) throws IOException {
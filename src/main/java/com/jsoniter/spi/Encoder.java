@@ -100,6 +100,20 @@ public interface Encoder {
         }
     }
 
+    class FixedPointEncoder extends LongEncoder {
+
+        public final int scale;
+
+        public FixedPointEncoder(int scale) {
+            this.scale = scale;
+        }
+
+        @Override
+        public void encodeLong(long obj, JsonStream stream) throws IOException {
+            stream.writeFixedPoint(obj, scale);
+        }
+    }
+
     abstract class FloatEncoder implements ReflectionEncoder {
         @Override
         public void encode(Object obj, JsonStream stream) throws IOException {
@@ -18,6 +18,7 @@ public class JsoniterSpi {
     private static Map<Type, Encoder> globalTypeEncoders = new HashMap<Type, Encoder>();
     private static Map<TypeProperty, Decoder> globalPropertyDecoders = new HashMap<TypeProperty, Decoder>();
     private static Map<TypeProperty, Encoder> globalPropertyEncoders = new HashMap<TypeProperty, Encoder>();
+    private static volatile PoolStrategy poolStrategy = PoolStrategy.THREAD_LOCAL;
 
     // current state
     private static ThreadLocal<Config> currentConfig = new ThreadLocal<Config>() {
@@ -99,6 +100,18 @@ public class JsoniterSpi {
         return combined;
     }
 
+    /**
+     * how JsonIterator.deserialize and JsonStream.serialize reuse iterators and streams, objects pooled by
+     * the previous strategy are left to gc
+     */
+    public static void setPoolStrategy(PoolStrategy strategy) {
+        poolStrategy = strategy;
+    }
+
+    public static PoolStrategy getPoolStrategy() {
+        return poolStrategy;
+    }
+
     public static void registerMapKeyDecoder(Type mapKeyType, Decoder mapKeyDecoder) {
         globalMapKeyDecoders.put(mapKeyType, mapKeyDecoder);
         copyGlobalMapKeyDecoder(getCurrentConfig().configName(), mapKeyType, mapKeyDecoder);
@@ -0,0 +1,26 @@
+package com.jsoniter.spi;
+
+/**
+ * reusable JsonIterator or JsonStream, created by the PoolStrategy set to JsoniterSpi
+ */
+public interface ObjectPool<T> {
+
+    T borrow();
+
+    void release(T obj);
+
+    /**
+     * creates the pooled objects, and prepares them for reuse
+     */
+    interface Recycler<T> {
+
+        T create();
+
+        /**
+         * drop the references to the last input or output, shrink buffers larger than maxBufferSize
+         *
+         * @return false if the object should not be pooled
+         */
+        boolean recycle(T obj, int maxBufferSize);
+    }
+}
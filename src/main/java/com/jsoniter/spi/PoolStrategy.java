@@ -0,0 +1,163 @@
+package com.jsoniter.spi;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * how JsonIterator and JsonStream are reused by JsonIterator.deserialize and JsonStream.serialize.
+ * <ul>
+ * <li>THREAD_LOCAL keeps two per thread, the default, suits a fixed set of long living threads</li>
+ * <li>striped shares a bounded number between all threads, suits many short living (virtual) threads</li>
+ * <li>NONE creates new ones every time</li>
+ * </ul>
+ */
+public abstract class PoolStrategy {
+
+    public final static int DEFAULT_MAX_BUFFER_SIZE = 64 * 1024;
+
+    public final static PoolStrategy THREAD_LOCAL = threadLocal(DEFAULT_MAX_BUFFER_SIZE);
+    public final static PoolStrategy NONE = new PoolStrategy(0) {
+        @Override
+        public <T> ObjectPool<T> newPool(final ObjectPool.Recycler<T> recycler) {
+            return new ObjectPool<T>() {
+                @Override
+                public T borrow() {
+                    return recycler.create();
+                }
+
+                @Override
+                public void release(T obj) {
+                }
+            };
+        }
+    };
+
+    protected final int maxBufferSize;
+
+    /**
+     * @param maxBufferSize buffers grown larger than this are shrunk when the object is returned
+     */
+    protected PoolStrategy(int maxBufferSize) {
+        this.maxBufferSize = maxBufferSize;
+    }
+
+    public abstract <T> ObjectPool<T> newPool(ObjectPool.Recycler<T> recycler);
+
+    public static PoolStrategy threadLocal(int maxBufferSize) {
+        return new PoolStrategy(maxBufferSize) {
+            @Override
+            public <T> ObjectPool<T> newPool(ObjectPool.Recycler<T> recycler) {
+                return new ThreadLocalPool<T>(recycler, this.maxBufferSize);
+            }
+        };
+    }
+
+    /**
+     * @param capacity objects kept at most, shared by all threads, rounded up to power of 2
+     */
+    public static PoolStrategy striped(final int capacity, int maxBufferSize) {
+        return new PoolStrategy(maxBufferSize) {
+            @Override
+            public <T> ObjectPool<T> newPool(ObjectPool.Recycler<T> recycler) {
+                return new StripedPool<T>(recycler, capacity, this.maxBufferSize);
+            }
+        };
+    }
+
+    public static PoolStrategy striped(int capacity) {
+        return striped(capacity, DEFAULT_MAX_BUFFER_SIZE);
+    }
+
+    private static class ThreadLocalPool<T> implements ObjectPool<T> {
+
+        private final ThreadLocal<T> slot1 = new ThreadLocal<T>();
+        private final ThreadLocal<T> slot2 = new ThreadLocal<T>();
+        private final Recycler<T> recycler;
+        private final int maxBufferSize;
+
+        ThreadLocalPool(Recycler<T> recycler, int maxBufferSize) {
+            this.recycler = recycler;
+            this.maxBufferSize = maxBufferSize;
+        }
+
+        @Override
+        public T borrow() {
+            T obj = slot1.get();
+            if (obj != null) {
+                slot1.set(null);
+                return obj;
+            }
+            obj = slot2.get();
+            if (obj != null) {
+                slot2.set(null);
+                return obj;
+            }
+            return recycler.create();
+        }
+
+        @Override
+        public void release(T obj) {
+            if (!recycler.recycle(obj, maxBufferSize)) {
+                return;
+            }
+            if (slot1.get() == null) {
+                slot1.set(obj);
+                return;
+            }
+            if (slot2.get() == null) {
+                slot2.set(obj);
+            }
+        }
+    }
+
+    // lock free, a thread starts probing from the slot of its id, so threads mostly touch different slots
+    private static class StripedPool<T> implements ObjectPool<T> {
+
+        private final static int PROBES = 4;
+        private final AtomicReferenceArray<T> slots;
+        private final int mask;
+        private final Recycler<T> recycler;
+        private final int maxBufferSize;
+
+        StripedPool(Recycler<T> recycler, int capacity, int maxBufferSize) {
+            int size = Integer.highestOneBit(Math.max(capacity, PROBES) - 1) << 1;
+            this.slots = new AtomicReferenceArray<T>(size);
+            this.mask = size - 1;
+            this.recycler = recycler;
+            this.maxBufferSize = maxBufferSize;
+        }
+
+        @Override
+        public T borrow() {
+            int start = stripe();
+            for (int i = 0; i < PROBES; i++) {
+                int slot = (start + i) & mask;
+                T obj = slots.get(slot);
+                if (obj != null && slots.compareAndSet(slot, obj, null)) {
+                    return obj;
+                }
+            }
+            return recycler.create();
+        }
+
+        @Override
+        public void release(T obj) {
+            if (!recycler.recycle(obj, maxBufferSize)) {
+                return;
+            }
+            int start = stripe();
+            for (int i = 0; i < PROBES; i++) {
+                int slot = (start + i) & mask;
+                if (slots.get(slot) == null && slots.compareAndSet(slot, null, obj)) {
+                    return;
+                }
+            }
+            // full around this stripe, left to gc
+        }
+
+        private static int stripe() {
+            long id = Thread.currentThread().getId();
+            int h = (int) (id ^ (id >>> 32)) * 0x9e3779b9;
+            return h ^ (h >>> 16);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.jsoniter.spi;
 
+import java.io.UnsupportedEncodingException;
+
 public class Slice {
 
     private byte[] data;
@@ -41,7 +43,12 @@ public class Slice {
     }
 
     public static Slice make(String str) {
-        byte[] data = str.getBytes();
+        byte[] data;
+        try {
+            data = str.getBytes("UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            throw new JsonException(e);
+        }
         return new Slice(data, 0, data.length);
     }
 
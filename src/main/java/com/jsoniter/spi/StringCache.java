@@ -0,0 +1,143 @@
+package com.jsoniter.spi;
+
+/**
+ * canonical instances of string values, for low cardinality fields like country codes or status,
+ * so decoding them neither allocates nor retains a copy per decoded object.
+ * <p>
+ * open addressing over the raw bytes, a value is placed within PROBES slots of its hash.
+ * when they are all taken, one is evicted by clock: a slot hit since the last sweep gets a second chance.
+ * entries are immutable except the hit mark, threads sharing the cache at worst miss and allocate,
+ * the counters are not synchronized and only approximate when shared
+ */
+public class StringCache {
+
+    private final static int PROBES = 8;
+
+    private static class Entry {
+        final byte[] bytes;
+        final String string;
+        final int hash;
+        boolean referenced;
+
+        Entry(byte[] bytes, String string, int hash) {
+            this.bytes = bytes;
+            this.string = string;
+            this.hash = hash;
+        }
+    }
+
+    private final Entry[] table;
+    private final int mask;
+    private final int maxLength;
+    private int hand;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public StringCache(int capacity) {
+        this(capacity, 64);
+    }
+
+    /**
+     * @param capacity  slots, rounded up to power of 2
+     * @param maxLength longer values are not cached
+     */
+    public StringCache(int capacity, int maxLength) {
+        int size = Integer.highestOneBit(Math.max(capacity, PROBES) - 1) << 1;
+        this.table = new Entry[size];
+        this.mask = size - 1;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * @param buf   ascii bytes, not escaped
+     * @param start first byte of the value
+     * @param end   after the last byte of the value
+     * @return the canonical instance of the value
+     */
+    public String lookup(byte[] buf, int start, int end) {
+        int len = end - start;
+        if (len > maxLength) {
+            return AsciiHelper.newString(buf, start, end);
+        }
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = hash * 31 + buf[i];
+        }
+        hash ^= hash >>> 16;
+        Entry[] table = this.table;
+        int empty = -1;
+        for (int p = 0; p < PROBES; p++) {
+            int slot = (hash + p) & mask;
+            Entry entry = table[slot];
+            if (entry == null) {
+                empty = slot;
+                break;
+            }
+            if (entry.hash == hash && equals(entry.bytes, buf, start, end)) {
+                if (!entry.referenced) {
+                    entry.referenced = true;
+                }
+                hits++;
+                return entry.string;
+            }
+        }
+        misses++;
+        byte[] bytes = new byte[len];
+        System.arraycopy(buf, start, bytes, 0, len);
+        Entry entry = new Entry(bytes, AsciiHelper.newString(bytes, 0, len), hash);
+        table[empty == -1 ? victim(hash) : empty] = entry;
+        return entry.string;
+    }
+
+    // clock over the probe window, starting from where the last sweep stopped
+    private int victim(int hash) {
+        int start = hand;
+        for (int i = 0; i < PROBES * 2; i++) {
+            int p = (start + i) % PROBES;
+            int slot = (hash + p) & mask;
+            Entry entry = table[slot];
+            if (entry == null || !entry.referenced) {
+                hand = p + 1;
+                evictions++;
+                return slot;
+            }
+            entry.referenced = false;
+        }
+        // not reached, every mark is cleared by the first round
+        evictions++;
+        return hash & mask;
+    }
+
+    public long hits() {
+        return hits;
+    }
+
+    public long misses() {
+        return misses;
+    }
+
+    public long evictions() {
+        return evictions;
+    }
+
+    /**
+     * @return hits / lookups of cacheable values, 0 if nothing is looked up yet
+     */
+    public double hitRate() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    private static boolean equals(byte[] bytes, byte[] buf, int start, int end) {
+        if (bytes.length != end - start) {
+            return false;
+        }
+        for (int i = 0; i < bytes.length; i++) {
+            if (bytes[i] != buf[start + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
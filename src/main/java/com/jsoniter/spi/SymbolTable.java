@@ -0,0 +1,176 @@
+package com.jsoniter.spi;
+
+import java.io.UnsupportedEncodingException;
+
+/**
+ * maps the bytes of an object key to a canonical String, hashing the input buffer directly,
+ * so a key seen before is neither decoded nor allocated again.
+ * <p>
+ * looked up keys are cached in a direct mapped table, a new key replaces the one in its slot.
+ * entries are immutable, threads racing on a slot at worst miss and allocate, so no lock is needed.
+ * registered symbols are never evicted and have an id, for decoders switching on the key without a String
+ */
+public class SymbolTable {
+
+    public final static int NOT_FOUND = -1;
+    public final static int END_OF_OBJECT = -2;
+    // longer keys are rarely repeated, do not let them take the slots
+    public final static int MAX_SYMBOL_LENGTH = 64;
+    // used when reading object keys
+    public final static SymbolTable SHARED = new SymbolTable(4096);
+
+    private static class Entry {
+        final byte[] bytes;
+        final String string;
+        final int hash;
+        final int id;
+
+        Entry(byte[] bytes, String string, int hash, int id) {
+            this.bytes = bytes;
+            this.string = string;
+            this.hash = hash;
+            this.id = id;
+        }
+    }
+
+    private final Entry[] cache;
+    private final int mask;
+    // open addressing, copied on register
+    private volatile Entry[] registered = new Entry[16];
+    private volatile String[] symbols = new String[0];
+
+    /**
+     * @param capacity slots of the cache, rounded up to power of 2
+     */
+    public SymbolTable(int capacity) {
+        int size = Integer.highestOneBit(Math.max(capacity, 16) - 1) << 1;
+        cache = new Entry[size];
+        mask = size - 1;
+    }
+
+    /**
+     * @param symbol the key
+     * @return id of the symbol, ids are assigned from 0 in the order of registration
+     */
+    public synchronized int register(String symbol) {
+        byte[] bytes = toBytes(symbol);
+        int hash = hash(bytes, 0, bytes.length);
+        Entry existing = find(registered, hash, bytes, 0, bytes.length);
+        if (existing != null) {
+            return existing.id;
+        }
+        int id = symbols.length;
+        Entry[] table = registered;
+        if ((id + 1) * 2 > table.length) {
+            table = new Entry[table.length * 2];
+            for (Entry entry : registered) {
+                if (entry != null) {
+                    insert(table, entry);
+                }
+            }
+        } else {
+            table = table.clone();
+        }
+        insert(table, new Entry(bytes, symbol, hash, id));
+        String[] newSymbols = new String[id + 1];
+        System.arraycopy(symbols, 0, newSymbols, 0, id);
+        newSymbols[id] = symbol;
+        registered = table;
+        symbols = newSymbols;
+        return id;
+    }
+
+    public String symbol(int id) {
+        return symbols[id];
+    }
+
+    /**
+     * @return id of the registered symbol having the bytes, NOT_FOUND if not registered
+     */
+    public int symbolId(byte[] buf, int start, int end) {
+        Entry entry = find(registered, hash(buf, start, end), buf, start, end);
+        return entry == null ? NOT_FOUND : entry.id;
+    }
+
+    public int symbolId(String symbol) {
+        byte[] bytes = toBytes(symbol);
+        return symbolId(bytes, 0, bytes.length);
+    }
+
+    /**
+     * @param buf   ascii bytes, not escaped
+     * @param start first byte of the key
+     * @param end   after the last byte of the key
+     * @return the canonical instance of the key
+     */
+    public String lookup(byte[] buf, int start, int end) {
+        int len = end - start;
+        if (len > MAX_SYMBOL_LENGTH) {
+            return AsciiHelper.newString(buf, start, end);
+        }
+        int hash = hash(buf, start, end);
+        int slot = hash & mask;
+        Entry entry = cache[slot];
+        if (entry != null && entry.hash == hash && equals(entry.bytes, buf, start, end)) {
+            return entry.string;
+        }
+        entry = find(registered, hash, buf, start, end);
+        if (entry == null) {
+            byte[] bytes = new byte[len];
+            System.arraycopy(buf, start, bytes, 0, len);
+            entry = new Entry(bytes, AsciiHelper.newString(bytes, 0, len), hash, NOT_FOUND);
+        }
+        cache[slot] = entry;
+        return entry.string;
+    }
+
+    private static Entry find(Entry[] table, int hash, byte[] buf, int start, int end) {
+        int tableMask = table.length - 1;
+        for (int i = hash & tableMask; ; i = (i + 1) & tableMask) {
+            Entry entry = table[i];
+            if (entry == null) {
+                return null;
+            }
+            if (entry.hash == hash && equals(entry.bytes, buf, start, end)) {
+                return entry;
+            }
+        }
+    }
+
+    private static void insert(Entry[] table, Entry entry) {
+        int tableMask = table.length - 1;
+        int i = entry.hash & tableMask;
+        while (table[i] != null) {
+            i = (i + 1) & tableMask;
+        }
+        table[i] = entry;
+    }
+
+    private static int hash(byte[] buf, int start, int end) {
+        int h = 0;
+        for (int i = start; i < end; i++) {
+            h = h * 31 + buf[i];
+        }
+        return h ^ (h >>> 16);
+    }
+
+    private static boolean equals(byte[] bytes, byte[] buf, int start, int end) {
+        if (bytes.length != end - start) {
+            return false;
+        }
+        for (int i = 0; i < bytes.length; i++) {
+            if (bytes[i] != buf[start + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static byte[] toBytes(String symbol) {
+        try {
+            return symbol.getBytes("UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            throw new JsonException(e);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.jsoniter;
+
+import com.jsoniter.output.JsonStream;
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Random;
+
+/**
+ * 2000 prices with 2 decimal places, read and written as BigDecimal, double or fixed point long
+ */
+@State(Scope.Thread)
+public class BenchBigDecimal {
+
+    private byte[] prices;
+    private BigDecimal[] values;
+    private long[] cents;
+    private JsonIterator iter;
+    private JsonStream stream;
+
+    @Setup(Level.Trial)
+    public void benchSetup() {
+        Random random = new Random(1);
+        StringBuilder json = new StringBuilder("[");
+        values = new BigDecimal[2000];
+        cents = new long[values.length];
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            cents[i] = random.nextInt(100000000);
+            values[i] = BigDecimal.valueOf(cents[i], 2);
+            json.append(values[i]);
+        }
+        prices = json.append(']').toString().getBytes();
+        iter = new JsonIterator();
+        stream = new JsonStream(null, 64 * 1024);
+    }
+
+    @Benchmark
+    public void readFromBytes(Blackhole bh) throws IOException {
+        iter.reset(prices);
+        while (iter.readArray()) {
+            bh.consume(iter.readBigDecimal());
+        }
+    }
+
+    @Benchmark
+    public void readFromChars(Blackhole bh) throws IOException {
+        // the path used before IterImplBigNumber
+        iter.reset(prices);
+        while (iter.readArray()) {
+            IterImplForStreaming.numberChars numberChars = IterImplForStreaming.readNumber(iter);
+            bh.consume(new BigDecimal(numberChars.chars, 0, numberChars.charsLength));
+        }
+    }
+
+    @Benchmark
+    public void readFixedPoint(Blackhole bh) throws IOException {
+        iter.reset(prices);
+        while (iter.readArray()) {
+            bh.consume(iter.readFixedPoint(2));
+        }
+    }
+
+    @Benchmark
+    public void readDouble(Blackhole bh) throws IOException {
+        iter.reset(prices);
+        while (iter.readArray()) {
+            bh.consume(iter.readDouble());
+        }
+    }
+
+    @Benchmark
+    public void write(Blackhole bh) throws IOException {
+        stream.reset(null);
+        for (BigDecimal value : values) {
+            stream.writeVal(value);
+            stream.write(',');
+        }
+        bh.consume(stream.buffer());
+    }
+
+    @Benchmark
+    public void writeToString(Blackhole bh) throws IOException {
+        stream.reset(null);
+        for (BigDecimal value : values) {
+            // BigDecimal caches its toString, a fresh copy is what a decoded value costs
+            stream.writeRaw(new BigDecimal(value.unscaledValue(), value.scale()).toString());
+            stream.write(',');
+        }
+        bh.consume(stream.buffer());
+    }
+
+    @Benchmark
+    public void writeFixedPoint(Blackhole bh) throws IOException {
+        stream.reset(null);
+        for (long value : cents) {
+            stream.writeFixedPoint(value, 2);
+            stream.write(',');
+        }
+        bh.consume(stream.buffer());
+    }
+
+    public static void main(String[] args) throws Exception {
+        Main.main(new String[]{
+                "BenchBigDecimal",
+                "-i", "5",
+                "-wi", "5",
+                "-f", "1",
+        });
+    }
+}
@@ -0,0 +1,89 @@
+package com.jsoniter;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.Random;
+
+/**
+ * coordinates like canada.json, [[lon,lat],...] with 15 to 17 significant digits
+ */
+@State(Scope.Thread)
+public class BenchDouble {
+
+    private byte[] coordinates;
+    private byte[] shortDecimals;
+    private JsonIterator iter;
+
+    @Setup(Level.Trial)
+    public void benchSetup() {
+        Random random = new Random(1);
+        StringBuilder json = new StringBuilder("[");
+        StringBuilder shortJson = new StringBuilder("[");
+        for (int i = 0; i < 10000; i++) {
+            if (i > 0) {
+                json.append(',');
+                shortJson.append(',');
+            }
+            json.append('[').append(-141 + random.nextDouble() * 90).append(',')
+                    .append(41 + random.nextDouble() * 42).append(']');
+            shortJson.append('[').append(random.nextInt(1000000) / 1000.0).append(',')
+                    .append(random.nextInt(1000000) / 1000.0).append(']');
+        }
+        coordinates = json.append(']').toString().getBytes();
+        shortDecimals = shortJson.append(']').toString().getBytes();
+        iter = new JsonIterator();
+    }
+
+    @Benchmark
+    public void coordinates(Blackhole bh) throws IOException {
+        read(coordinates, bh);
+    }
+
+    @Benchmark
+    public void coordinatesJdk(Blackhole bh) throws IOException {
+        // the slow path used before IterImplDouble
+        iter.reset(coordinates);
+        while (iter.readArray()) {
+            while (iter.readArray()) {
+                IterImplForStreaming.numberChars numberChars = IterImplForStreaming.readNumber(iter);
+                bh.consume(Double.valueOf(new String(numberChars.chars, 0, numberChars.charsLength)));
+            }
+        }
+    }
+
+    @Benchmark
+    public void coordinatesFloat(Blackhole bh) throws IOException {
+        iter.reset(coordinates);
+        while (iter.readArray()) {
+            while (iter.readArray()) {
+                bh.consume(iter.readFloat());
+            }
+        }
+    }
+
+    @Benchmark
+    public void shortDecimals(Blackhole bh) throws IOException {
+        read(shortDecimals, bh);
+    }
+
+    private void read(byte[] input, Blackhole bh) throws IOException {
+        iter.reset(input);
+        while (iter.readArray()) {
+            while (iter.readArray()) {
+                bh.consume(iter.readDouble());
+            }
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Main.main(new String[]{
+                "BenchDouble",
+                "-i", "5",
+                "-wi", "5",
+                "-f", "1",
+        });
+    }
+}
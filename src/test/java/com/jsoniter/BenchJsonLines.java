@@ -0,0 +1,51 @@
+package com.jsoniter;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+@State(Scope.Thread)
+public class BenchJsonLines {
+
+    private byte[] input;
+
+    @Setup(Level.Trial)
+    public void benchSetup() {
+        StringBuilder lines = new StringBuilder();
+        for (int i = 0; i < 10000; i++) {
+            lines.append("{\"field1\":\"value").append(i).append("\",\"field2\":\"x\"}\n");
+        }
+        input = lines.toString().getBytes();
+    }
+
+    @Benchmark
+    public void splitAndDeserialize(Blackhole bh) {
+        int start = 0;
+        for (int i = 0; i < input.length; i++) {
+            if (input[i] == '\n') {
+                bh.consume(JsonIterator.deserialize(Arrays.copyOfRange(input, start, i), SimpleObject.class));
+                start = i + 1;
+            }
+        }
+    }
+
+    @Benchmark
+    public void jsonLinesReader(Blackhole bh) throws IOException {
+        JsonLinesReader reader = new JsonLinesReader(input);
+        while (reader.hasNext()) {
+            bh.consume(reader.next(SimpleObject.class));
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Main.main(new String[]{
+                "BenchJsonLines",
+                "-i", "5",
+                "-wi", "5",
+                "-f", "1",
+        });
+    }
+}
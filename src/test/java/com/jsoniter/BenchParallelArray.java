@@ -0,0 +1,55 @@
+package com.jsoniter;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@State(Scope.Benchmark)
+public class BenchParallelArray {
+
+    @Param({"1", "2", "4", "8"})
+    public int threads;
+    private byte[] input;
+    private ExecutorService executor;
+
+    @Setup(Level.Trial)
+    public void benchSetup() {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 200000; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"field1\":\"value").append(i).append("\",\"field2\":\"x\"}");
+        }
+        json.append(']');
+        input = json.toString().getBytes();
+        executor = Executors.newFixedThreadPool(threads);
+    }
+
+    @TearDown(Level.Trial)
+    public void benchTearDown() {
+        executor.shutdown();
+    }
+
+    @Benchmark
+    public void parallelReadArray(Blackhole bh) {
+        bh.consume(JsonIterator.parallelReadArray(input, SimpleObject.class, executor, threads));
+    }
+
+    @Benchmark
+    public void readArray(Blackhole bh) {
+        bh.consume(JsonIterator.deserialize(input, SimpleObject[].class));
+    }
+
+    public static void main(String[] args) throws Exception {
+        Main.main(new String[]{
+                "BenchParallelArray",
+                "-i", "5",
+                "-wi", "5",
+                "-f", "1",
+        });
+    }
+}
@@ -0,0 +1,48 @@
+package com.jsoniter;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@State(Scope.Benchmark)
+public class BenchParallelJsonLines {
+
+    @Param({"1", "2", "4", "8"})
+    public int threads;
+    private byte[] input;
+    private ExecutorService executor;
+    private ParallelJsonLinesReader reader;
+
+    @Setup(Level.Trial)
+    public void benchSetup() {
+        StringBuilder lines = new StringBuilder();
+        for (int i = 0; i < 200000; i++) {
+            lines.append("{\"field1\":\"value").append(i).append("\",\"field2\":\"x\"}\n");
+        }
+        input = lines.toString().getBytes();
+        executor = Executors.newFixedThreadPool(threads);
+        reader = new ParallelJsonLinesReader(executor, threads);
+    }
+
+    @TearDown(Level.Trial)
+    public void benchTearDown() {
+        executor.shutdown();
+    }
+
+    @Benchmark
+    public void read(Blackhole bh) {
+        bh.consume(reader.read(input, SimpleObject.class));
+    }
+
+    public static void main(String[] args) throws Exception {
+        Main.main(new String[]{
+                "BenchParallelJsonLines",
+                "-i", "5",
+                "-wi", "5",
+                "-f", "1",
+        });
+    }
+}
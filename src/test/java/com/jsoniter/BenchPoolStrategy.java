@@ -0,0 +1,79 @@
+package com.jsoniter;
+
+import com.jsoniter.output.JsonStream;
+import com.jsoniter.spi.JsoniterSpi;
+import com.jsoniter.spi.PoolStrategy;
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * 1000 requests decoding and encoding a small object, each on its own task.
+ * virtual threads need jdk 21 to run the benchmark, they are created by reflection
+ */
+@State(Scope.Benchmark)
+public class BenchPoolStrategy {
+
+    @Param({"threadLocal", "striped", "none"})
+    public String strategy;
+
+    @Param({"platform", "virtual"})
+    public String threads;
+
+    private ExecutorService executor;
+    private Callable<String> request;
+
+    @Setup(Level.Trial)
+    public void benchSetup() throws Exception {
+        if ("threadLocal".equals(strategy)) {
+            JsoniterSpi.setPoolStrategy(PoolStrategy.THREAD_LOCAL);
+        } else if ("striped".equals(strategy)) {
+            JsoniterSpi.setPoolStrategy(PoolStrategy.striped(64));
+        } else {
+            JsoniterSpi.setPoolStrategy(PoolStrategy.NONE);
+        }
+        if ("virtual".equals(threads)) {
+            executor = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } else {
+            executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        }
+        final String input = "{\"field1\":\"hello\",\"field2\":\"world\"}";
+        request = new Callable<String>() {
+            @Override
+            public String call() throws Exception {
+                return JsonStream.serialize(JsonIterator.deserialize(input, SimpleObject.class));
+            }
+        };
+    }
+
+    @TearDown(Level.Trial)
+    public void benchTearDown() {
+        executor.shutdown();
+        JsoniterSpi.setPoolStrategy(PoolStrategy.THREAD_LOCAL);
+    }
+
+    @Benchmark
+    public int requests() throws Exception {
+        List<Future<String>> futures = new ArrayList<Future<String>>(1000);
+        for (int i = 0; i < 1000; i++) {
+            futures.add(executor.submit(request));
+        }
+        int len = 0;
+        for (Future<String> future : futures) {
+            len += future.get().length();
+        }
+        return len;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Main.main(new String[]{
+                "BenchPoolStrategy",
+                "-i", "5",
+                "-wi", "5",
+                "-f", "1",
+        });
+    }
+}
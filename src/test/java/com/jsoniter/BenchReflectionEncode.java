@@ -0,0 +1,92 @@
+package com.jsoniter;
+
+import com.jsoniter.output.EncodingMode;
+import com.jsoniter.output.JsonStream;
+import com.jsoniter.spi.Config;
+import com.jsoniter.spi.JsoniterSpi;
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+
+/**
+ * encode 100 objects of primitive fields, string field and a getter: reflection vs codegen
+ */
+@State(Scope.Thread)
+public class BenchReflectionEncode {
+
+    public static class Order {
+        public int id;
+        public long timestamp;
+        public double price;
+        public float ratio;
+        public short quantity;
+        public boolean paid;
+        public String customer;
+        private int priority;
+
+        public int getPriority() {
+            return priority;
+        }
+    }
+
+    private Order[] orders;
+    private JsonStream stream;
+    private Config reflectionConfig;
+    private Config codegenConfig;
+
+    @Setup(Level.Trial)
+    public void benchSetup() {
+        orders = new Order[100];
+        for (int i = 0; i < orders.length; i++) {
+            Order order = new Order();
+            order.id = i;
+            order.timestamp = 1500000000000L + i;
+            order.price = 100.25 + i;
+            order.ratio = 0.5f;
+            order.quantity = (short) (i % 10);
+            order.paid = i % 2 == 0;
+            order.customer = "customer" + i;
+            order.priority = i % 3;
+            orders[i] = order;
+        }
+        stream = new JsonStream(null, 64 * 1024);
+        reflectionConfig = new Config.Builder().encodingMode(EncodingMode.REFLECTION_MODE).build();
+        codegenConfig = new Config.Builder().encodingMode(EncodingMode.DYNAMIC_MODE).build();
+    }
+
+    @Benchmark
+    public void reflection(Blackhole bh) throws IOException {
+        encode(reflectionConfig, bh);
+    }
+
+    @Benchmark
+    public void codegen(Blackhole bh) throws IOException {
+        encode(codegenConfig, bh);
+    }
+
+    private void encode(Config config, Blackhole bh) throws IOException {
+        // same as JsonStream.serialize(Config, Object), the encoder is created for the current config
+        JsoniterSpi.setCurrentConfig(config);
+        try {
+            stream.reset(null);
+            stream.configCache = config;
+            for (Order order : orders) {
+                stream.writeVal(order);
+            }
+        } finally {
+            JsoniterSpi.clearCurrentConfig();
+        }
+        bh.consume(stream.buffer());
+    }
+
+    public static void main(String[] args) throws Exception {
+        Main.main(new String[]{
+                "BenchReflectionEncode",
+                "-i", "5",
+                "-wi", "5",
+                "-f", "1",
+        });
+    }
+}
@@ -0,0 +1,106 @@
+package com.jsoniter;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+
+@State(Scope.Thread)
+public class BenchScan {
+
+    private byte[] longString;
+    private byte[] indented;
+    private JsonIterator longStringIter;
+    private JsonIterator indentedIter;
+    private char[] chars;
+
+    @Setup(Level.Trial)
+    public void benchSetup() {
+        StringBuilder str = new StringBuilder("\"");
+        for (int i = 0; i < 256; i++) {
+            str.append((char) ('a' + i % 26));
+        }
+        str.append('"');
+        longString = str.toString().getBytes();
+        chars = new char[longString.length];
+        StringBuilder json = new StringBuilder();
+        for (int i = 0; i < 64; i++) {
+            json.append("\n                    ");
+        }
+        json.append('1');
+        indented = json.toString().getBytes();
+        longStringIter = JsonIterator.parse(longString);
+        indentedIter = JsonIterator.parse(indented);
+    }
+
+    @Benchmark
+    public void stringByteByByte(Blackhole bh) {
+        // the loop used before IterImplScan
+        int i = 1;
+        for (int j = 0; j < chars.length; j++) {
+            byte c = longString[i++];
+            if (c == '"') {
+                bh.consume(j);
+                return;
+            }
+            if ((c ^ '\\') < 1) {
+                break;
+            }
+            chars[j] = (char) c;
+        }
+        bh.consume(-1);
+    }
+
+    @Benchmark
+    public void stringWordByWord(Blackhole bh) {
+        int end = IterImplScan.findQuoteOrEscape(longStringIter, 1, longString.length);
+        for (int i = 1, j = 0; i < end; i++, j++) {
+            chars[j] = (char) longString[i];
+        }
+        bh.consume(end);
+    }
+
+    @Benchmark
+    public void whitespaceByteByByte(Blackhole bh) {
+        int i = 0;
+        for (; ; ) {
+            byte c = indented[i++];
+            switch (c) {
+                case ' ':
+                case '\n':
+                case '\r':
+                case '\t':
+                    continue;
+                default:
+                    bh.consume(i);
+                    return;
+            }
+        }
+    }
+
+    @Benchmark
+    public void whitespaceWordByWord(Blackhole bh) {
+        bh.consume(IterImplScan.skipWhitespaces(indentedIter, 0, indented.length));
+    }
+
+    @Benchmark
+    public void readString(Blackhole bh) throws IOException {
+        bh.consume(JsonIterator.parse(longString).readString());
+    }
+
+    @Benchmark
+    public void readStringReusingIterator(Blackhole bh) throws IOException {
+        longStringIter.reset(longString);
+        bh.consume(longStringIter.readString());
+    }
+
+    public static void main(String[] args) throws Exception {
+        Main.main(new String[]{
+                "BenchScan",
+                "-i", "5",
+                "-wi", "5",
+                "-f", "1",
+        });
+    }
+}
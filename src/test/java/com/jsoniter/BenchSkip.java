@@ -0,0 +1,92 @@
+package com.jsoniter;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+
+@State(Scope.Thread)
+public class BenchSkip {
+
+    private byte[] input;
+    private StructuralIndex index;
+
+    @Setup(Level.Trial)
+    public void benchSetup() {
+        // an array of large objects, only one field of each is wanted
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 100; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"payload\":[");
+            for (int j = 0; j < 50; j++) {
+                if (j > 0) {
+                    json.append(',');
+                }
+                json.append("{\"name\":\"item").append(j).append("\",\"tags\":[\"a\",\"b\",\"c\"],\"value\":").append(j).append('}');
+            }
+            json.append("],\"id\":").append(i).append('}');
+        }
+        json.append(']');
+        input = json.toString().getBytes();
+        index = StructuralIndex.build(input);
+    }
+
+    @Benchmark
+    public void buildIndex(Blackhole bh) throws IOException {
+        bh.consume(StructuralIndex.build(input));
+    }
+
+    @Benchmark
+    public void skipByPrebuiltIndex(Blackhole bh) throws IOException {
+        // the same document projected again and again
+        JsonIterator iter = new JsonIterator();
+        iter.reset(input, 0, input.length, index);
+        bh.consume(sumIds(iter));
+    }
+
+    @Benchmark
+    public void skipByScan(Blackhole bh) throws IOException {
+        bh.consume(sumIds(JsonIterator.parse(input)));
+    }
+
+    @Benchmark
+    public void skipByIndex(Blackhole bh) throws IOException {
+        bh.consume(sumIds(JsonIterator.parseWithIndex(input)));
+    }
+
+    @Benchmark
+    public void lazyAnyByScan(Blackhole bh) throws IOException {
+        bh.consume(JsonIterator.parse(input).readAny().toInt(99, "id"));
+    }
+
+    @Benchmark
+    public void lazyAnyByIndex(Blackhole bh) throws IOException {
+        bh.consume(JsonIterator.parseWithIndex(input).readAny().toInt(99, "id"));
+    }
+
+    private static int sumIds(JsonIterator iter) throws IOException {
+        int sum = 0;
+        while (iter.readArray()) {
+            for (String field = iter.readObject(); field != null; field = iter.readObject()) {
+                if ("id".equals(field)) {
+                    sum += iter.readInt();
+                } else {
+                    iter.skip();
+                }
+            }
+        }
+        return sum;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Main.main(new String[]{
+                "BenchSkip",
+                "-i", "5",
+                "-wi", "5",
+                "-f", "1",
+        });
+    }
+}
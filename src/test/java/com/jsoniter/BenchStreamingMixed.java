@@ -0,0 +1,52 @@
+package com.jsoniter;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+/**
+ * byte[] decoding, in a process that has or has not read an InputStream before
+ */
+@State(Scope.Thread)
+public class BenchStreamingMixed {
+
+    @Param({"false", "true"})
+    public boolean streamingUsed;
+
+    private byte[] input;
+    private JsonIterator iter;
+
+    @Setup(Level.Trial)
+    public void benchSetup() throws IOException {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 100; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"field1\":\"hello").append(i).append("\",\"field2\":\"world\"}");
+        }
+        input = json.append(']').toString().getBytes();
+        if (streamingUsed) {
+            JsonIterator.parse(new ByteArrayInputStream(input), 64).read(SimpleObject[].class);
+        }
+        iter = new JsonIterator();
+    }
+
+    @Benchmark
+    public void read(Blackhole bh) throws IOException {
+        iter.reset(input);
+        bh.consume(iter.read(SimpleObject[].class));
+    }
+
+    public static void main(String[] args) throws Exception {
+        Main.main(new String[]{
+                "BenchStreamingMixed",
+                "-i", "5",
+                "-wi", "5",
+                "-f", "1",
+        });
+    }
+}
@@ -0,0 +1,58 @@
+package com.jsoniter;
+
+import com.jsoniter.any.Any;
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+
+@State(Scope.Thread)
+public class BenchTape {
+
+    private byte[] input;
+
+    @Setup(Level.Trial)
+    public void benchSetup() {
+        // 10k small objects, every one of them is visited
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 10000; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"id\":").append(i).append(",\"name\":\"user").append(i).append("\",\"active\":true}");
+        }
+        json.append(']');
+        input = json.toString().getBytes();
+    }
+
+    @Benchmark
+    public void any(Blackhole bh) throws IOException {
+        Any root = JsonIterator.parse(input).readAny();
+        long sum = 0;
+        for (Any element : root) {
+            sum += element.toInt("id");
+        }
+        bh.consume(sum);
+    }
+
+    @Benchmark
+    public void tape(Blackhole bh) {
+        JsonTape tape = JsonTape.parse(input);
+        long sum = 0;
+        for (int element = tape.first(tape.root()); element != JsonTape.NOT_FOUND; element = tape.next(element)) {
+            sum += tape.toInt(tape.get(element, "id"));
+        }
+        bh.consume(sum);
+    }
+
+    public static void main(String[] args) throws Exception {
+        Main.main(new String[]{
+                "BenchTape",
+                "-i", "5",
+                "-wi", "5",
+                "-f", "1",
+                "-prof", "gc",
+        });
+    }
+}
@@ -0,0 +1,52 @@
+package com.jsoniter;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.Random;
+
+/**
+ * 500 events with a dynamic schema, read untyped into Map and List
+ */
+@State(Scope.Thread)
+public class BenchUntyped {
+
+    private byte[] events;
+    private JsonIterator iter;
+
+    @Setup(Level.Trial)
+    public void benchSetup() {
+        Random random = new Random(1);
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 500; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"id\":").append(random.nextInt(1000000))
+                    .append(",\"ts\":").append(1500000000000L + random.nextInt())
+                    .append(",\"price\":").append(random.nextInt(100000) / 100.0)
+                    .append(",\"type\":\"click\",\"tags\":[\"a\",\"b\"],\"attrs\":{\"x\":")
+                    .append(random.nextInt(100)).append(",\"y\":").append(random.nextInt(100))
+                    .append(",\"ok\":true,\"ref\":null}}");
+        }
+        events = json.append(']').toString().getBytes();
+        iter = new JsonIterator();
+    }
+
+    @Benchmark
+    public void read(Blackhole bh) throws IOException {
+        iter.reset(events);
+        bh.consume(iter.read());
+    }
+
+    public static void main(String[] args) throws Exception {
+        Main.main(new String[]{
+                "BenchUntyped",
+                "-i", "5",
+                "-wi", "5",
+                "-f", "1",
+        });
+    }
+}
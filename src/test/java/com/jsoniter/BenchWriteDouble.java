@@ -0,0 +1,91 @@
+package com.jsoniter;
+
+import com.jsoniter.output.JsonStream;
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.Random;
+
+/**
+ * write 2000 coordinates: 6 decimal places (default), Double.toString (PreciseFloatSupport before), shortest
+ */
+@State(Scope.Thread)
+public class BenchWriteDouble {
+
+    private double[] values;
+    private float[] floatValues;
+    private JsonStream stream;
+
+    @Setup(Level.Trial)
+    public void benchSetup() {
+        Random random = new Random(1);
+        values = new double[2000];
+        floatValues = new float[values.length];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = -141 + random.nextDouble() * 180;
+            floatValues[i] = (float) values[i];
+        }
+        stream = new JsonStream(null, 64 * 1024);
+    }
+
+    @Benchmark
+    public void sixDecimalPlaces(Blackhole bh) throws IOException {
+        stream.reset(null);
+        for (double value : values) {
+            stream.writeVal(value);
+            stream.write(',');
+        }
+        bh.consume(stream.buffer());
+    }
+
+    @Benchmark
+    public void jdkToString(Blackhole bh) throws IOException {
+        stream.reset(null);
+        for (double value : values) {
+            stream.writeRaw(Double.toString(value));
+            stream.write(',');
+        }
+        bh.consume(stream.buffer());
+    }
+
+    @Benchmark
+    public void shortest(Blackhole bh) throws IOException {
+        stream.reset(null);
+        for (double value : values) {
+            stream.writePreciseVal(value);
+            stream.write(',');
+        }
+        bh.consume(stream.buffer());
+    }
+
+    @Benchmark
+    public void jdkToStringFloat(Blackhole bh) throws IOException {
+        stream.reset(null);
+        for (float value : floatValues) {
+            stream.writeRaw(Float.toString(value));
+            stream.write(',');
+        }
+        bh.consume(stream.buffer());
+    }
+
+    @Benchmark
+    public void shortestFloat(Blackhole bh) throws IOException {
+        stream.reset(null);
+        for (float value : floatValues) {
+            stream.writePreciseVal(value);
+            stream.write(',');
+        }
+        bh.consume(stream.buffer());
+    }
+
+    public static void main(String[] args) throws Exception {
+        Main.main(new String[]{
+                "BenchWriteDouble",
+                "-i", "5",
+                "-wi", "5",
+                "-f", "1",
+        });
+    }
+}
@@ -0,0 +1,107 @@
+package com.jsoniter;
+
+import com.jsoniter.annotation.JsonFixedPoint;
+import com.jsoniter.spi.Config;
+import com.jsoniter.spi.JsonException;
+import junit.framework.TestCase;
+import org.junit.experimental.categories.Category;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+public class TestAnnotationJsonFixedPoint extends TestCase {
+
+    private boolean isStreaming;
+
+    public static class Price {
+        @JsonFixedPoint(2)
+        public long cents;
+        @JsonFixedPoint(6)
+        public long micros;
+        public long plain;
+    }
+
+    public void test_field() throws IOException {
+        Price price = JsonIterator.deserialize("{\"cents\":12.34,\"micros\":-0.000001,\"plain\":5}", Price.class);
+        assertEquals(1234, price.cents);
+        assertEquals(-1, price.micros);
+        assertEquals(5, price.plain);
+        price = JsonIterator.deserialize("{\"cents\":12,\"micros\":1.5e2}", Price.class);
+        assertEquals(1200, price.cents);
+        assertEquals(150000000, price.micros);
+    }
+
+    public void test_field_precision_loss() throws IOException {
+        try {
+            JsonIterator.deserialize("{\"cents\":12.345}", Price.class);
+            fail();
+        } catch (JsonException e) {
+        }
+    }
+
+    public static class DefaultScale {
+        @JsonFixedPoint
+        public long amount;
+    }
+
+    public void test_config_scale() throws IOException {
+        assertEquals(1230, JsonIterator.deserialize("{\"amount\":12.3}", DefaultScale.class).amount);
+        Config micros = new Config.Builder().fixedPointScale(6).build();
+        assertEquals(12300000, JsonIterator.deserialize(micros, "{\"amount\":12.3}", DefaultScale.class).amount);
+    }
+
+    public static class NotLong {
+        @JsonFixedPoint(2)
+        public double amount;
+    }
+
+    public void test_not_long() throws IOException {
+        try {
+            JsonIterator.deserialize("{\"amount\":12.3}", NotLong.class);
+            fail();
+        } catch (JsonException e) {
+        }
+    }
+
+    public void test_read_fixed_point() throws IOException {
+        assertEquals(1234, parse("12.34,", 2));
+        assertEquals(1234, parse("12.340000000000000000000000,", 2));
+        assertEquals(1230, parse(" 12.3 ", 2));
+        assertEquals(-1200, parse("-12,", 2));
+        assertEquals(0, parse("0,", 2));
+        assertEquals(0, parse("-0.0,", 2));
+        assertEquals(1, parse("0.01,", 2));
+        assertEquals(12345, parse("1.2345E4,", 0));
+        assertEquals(12, parse("1200e-2,", 0));
+        assertEquals(0, parse("0e999999,", 2));
+        assertEquals(Long.MAX_VALUE, parse("92233720368547758.07,", 2));
+        assertEquals(Long.MIN_VALUE, parse("-92233720368547758.08,", 2));
+        assertEquals(Long.MIN_VALUE, parse("-9.223372036854775808,", 18));
+    }
+
+    public void test_read_fixed_point_malformed() throws IOException {
+        String[] inputs = {"12.345,", "0.001,", "1e-3,", "92233720368547758.08,", "-92233720368547758.09,",
+                "1e20,", "100000000000000000000,", "01,", "1.,", "-,", "1e,", "\"1\","};
+        for (String input : inputs) {
+            try {
+                parse(input, 2);
+                fail(input);
+            } catch (JsonException e) {
+            }
+        }
+    }
+
+    @Category(StreamingCategory.class)
+    public void test_streaming() throws IOException {
+        isStreaming = true;
+        test_read_fixed_point();
+        test_read_fixed_point_malformed();
+    }
+
+    private long parse(String input, int scale) throws IOException {
+        if (isStreaming) {
+            return JsonIterator.parse(new ByteArrayInputStream(input.getBytes()), 2).readFixedPoint(scale);
+        }
+        return JsonIterator.parse(input).readFixedPoint(scale);
+    }
+}
@@ -1,6 +1,7 @@
 package com.jsoniter;
 
 import com.jsoniter.any.Any;
+import com.jsoniter.spi.JsonException;
 import com.jsoniter.spi.TypeLiteral;
 import junit.framework.TestCase;
 
@@ -9,6 +10,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.junit.Assert.assertArrayEquals;
 
@@ -199,4 +202,47 @@ public class TestArray extends TestCase {
         any.asList().add(Any.wrap(4));
         assertEquals("[1,2,3,4]", any.toString());
     }
+
+    public void test_parallel_read_array() {
+        StringBuilder json = new StringBuilder(" [");
+        for (int i = 0; i < 1000; i++) {
+            if (i > 0) {
+                json.append(", ");
+            }
+            json.append("{\"field1\":\"").append(i).append("\"}");
+        }
+        json.append("] ");
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            List<SimpleObject> elements = JsonIterator.parallelReadArray(json.toString().getBytes(), SimpleObject.class, executor, 3);
+            assertEquals(1000, elements.size());
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(String.valueOf(i), elements.get(i).field1);
+            }
+            assertEquals(0, JsonIterator.parallelReadArray("[]".getBytes(), SimpleObject.class, executor, 3).size());
+            assertEquals(Arrays.asList(1, 2, 3), JsonIterator.parallelReadArray("[1,2,3]".getBytes(), Integer.class, executor, 2));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    public void test_parallel_read_array_malformed() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            assertParallelReadFails("[1,2", executor, 2);
+            assertParallelReadFails("[1,\"a\"]", executor, 2);
+            assertParallelReadFails("[1] 2", executor, 2);
+            assertParallelReadFails("[1,2]", executor, 0);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static void assertParallelReadFails(String input, ExecutorService executor, int parallelism) {
+        try {
+            JsonIterator.parallelReadArray(input.getBytes(), Integer.class, executor, parallelism);
+            fail();
+        } catch (JsonException e) {
+        }
+    }
 }
@@ -0,0 +1,45 @@
+package com.jsoniter;
+
+import com.jsoniter.spi.JsonException;
+import junit.framework.TestCase;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+public class TestByteBuffer extends TestCase {
+
+    public void test_heap_buffer() throws IOException {
+        ByteBuffer buf = ByteBuffer.wrap("xx{'field1':'hello'}yy".replace('\'', '"').getBytes());
+        buf.position(2);
+        buf.limit(buf.limit() - 2);
+        SimpleObject obj = JsonIterator.parse(buf.slice()).read(SimpleObject.class);
+        assertEquals("hello", obj.field1);
+        assertEquals(2, buf.position());
+    }
+
+    public void test_direct_buffer_rejected() {
+        ByteBuffer buf = ByteBuffer.allocateDirect(16);
+        buf.put("[1]".getBytes());
+        buf.flip();
+        try {
+            JsonIterator.parse(buf);
+            fail();
+        } catch (JsonException e) {
+        }
+        try {
+            JsonIterator.parse(ByteBuffer.wrap("[1]".getBytes()).asReadOnlyBuffer());
+            fail();
+        } catch (JsonException e) {
+        }
+    }
+
+    public void test_reset_to_heap_buffer() throws IOException {
+        JsonIterator iter = JsonIterator.parse(ByteBuffer.wrap("[1,2]".getBytes()));
+        assertEquals(2, iter.read(int[].class).length);
+        ByteBuffer buf = ByteBuffer.allocate(64);
+        buf.put("{'a':[1,2]}".replace('\'', '"').getBytes());
+        buf.flip();
+        iter.reset(buf);
+        assertEquals(2, iter.readAny().toInt("a", 1));
+    }
+}
@@ -0,0 +1,89 @@
+package com.jsoniter;
+
+import com.jsoniter.any.Any;
+import junit.framework.TestCase;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+
+public class TestCharInput extends TestCase {
+
+    public void test_char_buffer() throws IOException {
+        CharBuffer input = CharBuffer.wrap("{'field1':'héllo','field2':'世界'}".replace('\'', '"'));
+        SimpleObject obj = JsonIterator.parse(input).read(SimpleObject.class);
+        assertEquals("héllo", obj.field1);
+        assertEquals("世界", obj.field2);
+    }
+
+    public void test_surrogate_pair() throws IOException {
+        assertEquals("😀", JsonIterator.parse(new StringBuilder("\"😀\"")).readString());
+        // unpaired is read as ?, same as String.getBytes
+        assertEquals("a?", JsonIterator.parse(new StringBuilder("\"a\ud83d\"")).readString());
+    }
+
+    public void test_reset_reuses_buffer() throws IOException {
+        JsonIterator iter = new JsonIterator();
+        iter.reset("[1,2,3]");
+        assertEquals(3, iter.read(int[].class).length);
+        iter.reset("{'a':'ä'}".replace('\'', '"'));
+        Any any = iter.readAny();
+        iter.reset("{'a':'b'}".replace('\'', '"'));
+        assertEquals("ä", any.toString("a"));
+    }
+
+    public void test_deserialize_string() {
+        SimpleObject obj = JsonIterator.deserialize("{'field1':'ä'} ".replace('\'', '"'), SimpleObject.class);
+        assertEquals("ä", obj.field1);
+        assertEquals("ä", JsonIterator.deserialize("{'a':'ä'}".replace('\'', '"')).toString("a"));
+    }
+
+    @org.junit.experimental.categories.Category(StreamingCategory.class)
+    public void test_reader() throws IOException {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 100; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"field1\":\"ä😀").append(i).append("\",\"field2\":\"世\"}");
+        }
+        json.append(']');
+        for (int bufSize = 2; bufSize < 10; bufSize++) {
+            SimpleObject[] objs = JsonIterator.parse(new StringReader(json.toString()), bufSize).read(SimpleObject[].class);
+            assertEquals(100, objs.length);
+            assertEquals("ä😀99", objs[99].field1);
+            assertEquals("世", objs[99].field2);
+        }
+    }
+
+    @org.junit.experimental.categories.Category(StreamingCategory.class)
+    public void test_reader_any() throws IOException {
+        Any any = JsonIterator.parse(new StringReader("{\"a\":[1,\"ä\"]}"), 3).readAny();
+        assertEquals("ä", any.toString("a", 1));
+    }
+
+    public void test_reset_pooled_iterator_to_reader() throws IOException {
+        byte[] callerBytes = "[1,2,3]".getBytes();
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 100; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"field1\":\"h\u00e9llo").append(i).append("\"}");
+        }
+        json.append(']');
+        JsonIterator iter = JsonIteratorPool.borrowJsonIterator();
+        try {
+            iter.reset(callerBytes);
+            assertEquals(3, iter.read(int[].class).length);
+            iter.reset(new StringReader(json.toString()), 64);
+            SimpleObject[] objs = iter.read(SimpleObject[].class);
+            assertEquals(100, objs.length);
+            assertEquals("h\u00e9llo99", objs[99].field1);
+            assertTrue(Arrays.equals("[1,2,3]".getBytes(), callerBytes));
+        } finally {
+            JsonIteratorPool.returnJsonIterator(iter);
+        }
+    }
+}
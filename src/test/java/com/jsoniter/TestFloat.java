@@ -1,11 +1,13 @@
 package com.jsoniter;
 
+import com.jsoniter.spi.JsonException;
 import junit.framework.TestCase;
 import org.junit.experimental.categories.Category;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.math.BigDecimal;
+import java.util.Random;
 
 public class TestFloat extends TestCase {
 
@@ -55,11 +57,71 @@ public class TestFloat extends TestCase {
         assertEquals(Double.valueOf("8.37377E9"), v, 1000d);
     }
 
+    public void test_correctly_rounded() throws IOException {
+        String[] inputs = new String[]{
+                "0.1", "0.3", "2.2250738585072011e-308", "2.2250738585072012e-308", "4.9e-324", "2.4703282292062328e-324",
+                "1.7976931348623157e308", "1.7976931348623159e308", "1e400", "1e-400", "9007199254740993",
+                "9007199254740993.0000000001", "123456789012345678901234567890", "0.000000000000000000000000000001",
+                "3.4028235e38", "3.4028236e38", "1.4e-45", "7.038531e-26", "1.00000017881393432617187499",
+                "1.00000005960464477539062500", "8.37377E9", "5e-324", "1E+2", "0e5", "0.0", "100e-2",
+                "179769313486231570000000000000000000000000000000000000000000000000000000000000000000000000000000000"
+                        + "000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000"
+                        + "000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000"
+                        + "000000000000000000000"};
+        for (String input : inputs) {
+            assertCorrectlyRounded(input);
+        }
+        Random random = new Random(1);
+        for (int i = 0; i < 20000; i++) {
+            double d = Double.longBitsToDouble(random.nextLong() & Long.MAX_VALUE);
+            if (!Double.isNaN(d) && !Double.isInfinite(d)) {
+                assertCorrectlyRounded(Double.toString(d));
+            }
+            float f = Float.intBitsToFloat(random.nextInt() & Integer.MAX_VALUE);
+            if (!Float.isNaN(f) && !Float.isInfinite(f)) {
+                assertCorrectlyRounded(Float.toString(f));
+            }
+            StringBuilder digits = new StringBuilder();
+            digits.append(1 + random.nextInt(9));
+            int digitCount = random.nextInt(24);
+            for (int j = 0; j < digitCount; j++) {
+                digits.append(random.nextInt(10));
+            }
+            digits.insert(1 + random.nextInt(digits.length()), '.');
+            if (digits.charAt(digits.length() - 1) == '.') {
+                digits.append('0');
+            }
+            digits.append('e').append(random.nextInt(700) - 350);
+            assertCorrectlyRounded(digits.toString());
+        }
+    }
+
+    private void assertCorrectlyRounded(String input) throws IOException {
+        assertEquals(input, Double.doubleToLongBits(Double.parseDouble(input)), Double.doubleToLongBits(parseDouble(input + ",")));
+        assertEquals(input, Double.doubleToLongBits(-Double.parseDouble(input)), Double.doubleToLongBits(parseDouble("-" + input + ",")));
+        assertEquals(input, Float.floatToIntBits(Float.parseFloat(input)), Float.floatToIntBits(parseFloat(input + ",")));
+        assertEquals(input, Float.floatToIntBits(Float.parseFloat(input)), Float.floatToIntBits(parseFloat(input)));
+    }
+
+    public void test_malformed() throws IOException {
+        String[] inputs = new String[]{"1e", "1e+", "1e-", "1.5E"};
+        for (String input : inputs) {
+            try {
+                parseDouble(input);
+                fail(input);
+            } catch (JsonException e) {
+            }
+        }
+    }
+
     @Category(StreamingCategory.class)
     public void test_streaming() throws IOException {
         isStreaming = true;
         test_positive_negative();
         test_decimal_places();
+        test_correctly_rounded();
+        test_malformed();
+        test_big_decimal_from_bytes();
     }
 
     private float parseFloat(String input) throws IOException {
@@ -83,6 +145,46 @@ public class TestFloat extends TestCase {
         assertEquals(new BigDecimal("100.1"), number);
     }
 
+    public void test_big_decimal_from_bytes() throws IOException {
+        String[] inputs = new String[]{"0", "-0", "0.0", "-0.00", "1", "-1", "100.1", "0.001", "1.5e3", "1.5E-3", "-12e+2",
+                "123456789012345678", "1234567890123456789", "-999999999999999999.999999999999999999",
+                "3.14159265358979323846264338327950288419716939937510", "1e2147483647", "1e-2147483647"};
+        for (String input : inputs) {
+            assertBigDecimal(input);
+        }
+        Random random = new Random(1);
+        for (int i = 0; i < 1000; i++) {
+            StringBuilder number = new StringBuilder();
+            if (random.nextBoolean()) {
+                number.append('-');
+            }
+            number.append(1 + random.nextInt(9));
+            int digits = random.nextInt(40);
+            for (int j = 0; j < digits; j++) {
+                number.append(random.nextInt(10));
+            }
+            if (random.nextBoolean()) {
+                number.append('.').append(random.nextInt(1000000));
+            }
+            if (random.nextBoolean()) {
+                number.append('e').append(random.nextInt(100) - 50);
+            }
+            assertBigDecimal(number.toString());
+        }
+    }
+
+    private void assertBigDecimal(String input) throws IOException {
+        BigDecimal expected = new BigDecimal(input);
+        JsonIterator iter = isStreaming ? JsonIterator.parse(new ByteArrayInputStream((input + ",").getBytes()), 2)
+                : JsonIterator.parse(input + ",");
+        // equals compares scale too
+        assertEquals(input, expected, iter.readBigDecimal());
+        if (!isStreaming) {
+            assertEquals(input.length(), iter.head);
+        }
+        assertEquals(input, expected, JsonIterator.deserialize("[" + input + "]", BigDecimal[].class)[0]);
+    }
+
     public void testChooseDouble() {
         Object number = JsonIterator.deserialize("1.1", Object.class);
         assertEquals(1.1, number);
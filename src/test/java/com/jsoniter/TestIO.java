@@ -4,7 +4,12 @@ import com.jsoniter.spi.JsonException;
 import junit.framework.TestCase;
 
 import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
 
 @org.junit.experimental.categories.Category(StreamingCategory.class)
 public class TestIO extends TestCase {
@@ -41,4 +46,51 @@ public class TestIO extends TestCase {
         assertEquals('1', IterImpl.readByte(iter));
     }
 
+    public void test_stream_and_bytes_in_same_process() throws IOException {
+        JsonIterator iter = JsonIterator.parse(new ByteArrayInputStream("[1,2]".getBytes()), 2);
+        assertEquals(Arrays.asList(1, 2), iter.read());
+        iter.reset("{\"a\":\"b\"} ".getBytes());
+        assertEquals("b", iter.readAny().toString("a"));
+        assertEquals(3, JsonIterator.deserialize("3", int.class).intValue());
+        iter.reset(new ByteArrayInputStream("\"hello\"".getBytes()));
+        assertEquals("hello", iter.readString());
+    }
+
+    public void test_mapped_file_across_regions() throws IOException {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 100; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{'id':").append(i).append(",'name':'user").append(i).append("'}");
+        }
+        json.append(']');
+        File file = writeTempFile(json.toString());
+        FileChannel channel = new RandomAccessFile(file, "r").getChannel();
+        // map 7 bytes a time, to cross region boundary everywhere
+        JsonIterator iter = JsonIterator.parse(new MappedFileInputStream(channel, true, 7), 16);
+        try {
+            int i = 0;
+            while (iter.readArray()) {
+                assertEquals("user" + i, iter.readAny().toString("name"));
+                i++;
+            }
+            assertEquals(100, i);
+        } finally {
+            iter.close();
+        }
+        assertFalse(channel.isOpen());
+    }
+
+    private static File writeTempFile(String json) throws IOException {
+        File file = File.createTempFile("jsoniter", ".json");
+        file.deleteOnExit();
+        FileOutputStream out = new FileOutputStream(file);
+        try {
+            out.write(json.replace('\'', '"').getBytes());
+        } finally {
+            out.close();
+        }
+        return file;
+    }
 }
@@ -200,6 +200,17 @@ public class TestInteger extends TestCase {
         assertEquals(new BigInteger("100"), number);
     }
 
+    public void test_big_integer_from_bytes() throws IOException {
+        String[] inputs = new String[]{"0", "-0", "-1", "999999999999999999", "-1000000000000000000",
+                "9223372036854775808", "-123456789012345678901234567890123456789012345678901234567890"};
+        for (String input : inputs) {
+            assertEquals(input, new BigInteger(input), JsonIterator.parse(input + " ").readBigInteger());
+            assertEquals(input, new BigInteger(input),
+                    JsonIterator.parse(new ByteArrayInputStream((input + " ").getBytes()), 2).readBigInteger());
+        }
+        assertNull(JsonIterator.parse("null").readBigInteger());
+    }
+
     public void testChooseInteger() {
         Object number = JsonIterator.deserialize("100", Object.class);
         assertEquals(100, number);
@@ -0,0 +1,78 @@
+package com.jsoniter;
+
+import com.jsoniter.spi.JsonException;
+import com.jsoniter.spi.TypeLiteral;
+import junit.framework.TestCase;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+public class TestJsonLines extends TestCase {
+
+    private static final String LINES = "{'field1':'a'}\n\n  {'field1':'b'}  \r\n{'field1':'c'}".replace('\'', '"');
+
+    public void test_read_byte_array() throws IOException {
+        JsonLinesReader reader = new JsonLinesReader(LINES.getBytes());
+        assertTrue(reader.hasNext());
+        assertEquals("a", reader.next(SimpleObject.class).field1);
+        assertEquals("b", reader.next(SimpleObject.class).field1);
+        assertEquals(3, reader.lineNumber());
+        assertEquals("{\"field1\":\"c\"}", reader.nextSlice().toString());
+        assertEquals(4, reader.lineNumber());
+        assertFalse(reader.hasNext());
+        try {
+            reader.nextSlice();
+            fail();
+        } catch (NoSuchElementException e) {
+        }
+    }
+
+    public void test_read_input_stream() throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            lines.append("{\"id\":").append(i).append(",\"name\":\"user").append(i).append("\"}\n");
+        }
+        // buffer smaller than a line, to grow and to split lines everywhere
+        JsonLinesReader reader = new JsonLinesReader(new ByteArrayInputStream(lines.toString().getBytes()), 8);
+        int i = 0;
+        while (reader.hasNext()) {
+            Map<String, Object> record = reader.next(new TypeLiteral<Map<String, Object>>() {
+            });
+            assertEquals(i, record.get("id"));
+            assertEquals("user" + i, record.get("name"));
+            i++;
+        }
+        assertEquals(100, i);
+    }
+
+    public void test_iterator() throws IOException {
+        JsonLinesReader reader = new JsonLinesReader(new ByteArrayInputStream("[1,2]\n[3]".getBytes()), 4);
+        int sum = 0;
+        while (reader.hasNext()) {
+            JsonIterator iter = reader.nextIterator();
+            while (iter.readArray()) {
+                sum += iter.readInt();
+            }
+        }
+        assertEquals(6, sum);
+    }
+
+    public void test_malformed() throws IOException {
+        String lines = "{'field1':'a'}\n{'field1':\n{'field1':'b'} x\n{'field1':'c'}\n{".replace('\'', '"');
+        JsonLinesReader reader = new JsonLinesReader(lines.getBytes());
+        assertEquals("a", reader.next(SimpleObject.class).field1);
+        try {
+            reader.next(SimpleObject.class);
+            fail();
+        } catch (JsonException e) {
+        }
+        reader = new JsonLinesReader(lines.getBytes()).skipMalformed(true);
+        assertEquals("a", reader.next(SimpleObject.class).field1);
+        assertEquals("c", reader.next(SimpleObject.class).field1);
+        assertEquals(4, reader.lineNumber());
+        assertNull(reader.next(SimpleObject.class));
+        assertEquals(3, reader.malformedCount());
+    }
+}
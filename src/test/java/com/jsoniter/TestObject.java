@@ -267,4 +267,22 @@ public class TestObject extends TestCase {
         TestObject9 obj = JsonIterator.deserialize("{\"字段\":100}", TestObject9.class);
         assertEquals(100, obj.字段);
     }
+
+    public static class TestObject10 {
+        // costarring and liquid have the same hash, so do declinate and macallums
+        public int costarring;
+        public int liquid;
+        public int declinate;
+    }
+
+    public void test_fields_having_same_hash() {
+        TestObject10 obj = JsonIterator.deserialize(
+                "{\"liquid\":1,\"macallums\":2,\"costarring\":3,\"declinate\":4}", TestObject10.class);
+        assertEquals(1, obj.liquid);
+        assertEquals(3, obj.costarring);
+        assertEquals(4, obj.declinate);
+        obj = JsonIterator.deserialize("{\"macallums\":2,\"costarrin\":3}", TestObject10.class);
+        assertEquals(0, obj.declinate);
+        assertEquals(0, obj.costarring);
+    }
 }
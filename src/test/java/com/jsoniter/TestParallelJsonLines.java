@@ -0,0 +1,115 @@
+package com.jsoniter;
+
+import com.google.gson.FieldNamingPolicy;
+import com.jsoniter.extra.GsonCompatibilityMode;
+import com.jsoniter.spi.JsonException;
+import com.jsoniter.spi.JsoniterSpi;
+import junit.framework.TestCase;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class TestParallelJsonLines extends TestCase {
+
+    private ExecutorService executor;
+
+    @Override
+    protected void setUp() {
+        executor = Executors.newFixedThreadPool(3);
+    }
+
+    @Override
+    protected void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static String lines(int count) {
+        StringBuilder lines = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            lines.append("{\"field1\":\"").append(i).append("\"}\n");
+        }
+        return lines.toString();
+    }
+
+    public void test_keep_order() {
+        List<SimpleObject> records = new ParallelJsonLinesReader(executor, 3)
+                .read(lines(1000).getBytes(), SimpleObject.class);
+        assertEquals(1000, records.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(String.valueOf(i), records.get(i).field1);
+        }
+    }
+
+    public void test_fewer_lines_than_chunks() {
+        Iterator<SimpleObject> iter = new ParallelJsonLinesReader(executor, 3)
+                .iterator("{\"field1\":\"a\"}".getBytes(), SimpleObject.class);
+        assertTrue(iter.hasNext());
+        assertEquals("a", iter.next().field1);
+        assertFalse(iter.hasNext());
+        assertEquals(0, new ParallelJsonLinesReader(executor, 3).read(new byte[0], SimpleObject.class).size());
+    }
+
+    private static File writeTempFile(String content) throws IOException {
+        File file = File.createTempFile("jsoniter", ".jsonl");
+        file.deleteOnExit();
+        FileOutputStream out = new FileOutputStream(file);
+        try {
+            out.write(content.getBytes());
+        } finally {
+            out.close();
+        }
+        return file;
+    }
+
+    public void test_file() throws IOException {
+        File file = writeTempFile(lines(1000));
+        List<SimpleObject> records = new ParallelJsonLinesReader(executor, 3).read(file, SimpleObject.class);
+        assertEquals(1000, records.size());
+        assertEquals("999", records.get(999).field1);
+    }
+
+    public void test_close_before_end() throws IOException {
+        File file = writeTempFile(lines(1000));
+        ParallelJsonLinesReader.RecordIterator<SimpleObject> iter = new ParallelJsonLinesReader(executor, 3)
+                .iterator(file, SimpleObject.class);
+        for (int i = 0; i < 10; i++) {
+            assertEquals(String.valueOf(i), iter.next().field1);
+        }
+        iter.close();
+        assertFalse(iter.channel.isOpen());
+        assertFalse(iter.hasNext());
+        iter.close();
+    }
+
+    public void test_malformed() {
+        byte[] input = (lines(100) + "{\n" + lines(100)).getBytes();
+        try {
+            new ParallelJsonLinesReader(executor, 3).read(input, SimpleObject.class);
+            fail();
+        } catch (JsonException e) {
+        }
+        List<SimpleObject> records = new ParallelJsonLinesReader(executor, 3).skipMalformed(true)
+                .read(input, SimpleObject.class);
+        assertEquals(200, records.size());
+    }
+
+    public void test_use_config_of_caller() {
+        GsonCompatibilityMode config = new GsonCompatibilityMode.Builder()
+                .setFieldNamingPolicy(FieldNamingPolicy.UPPER_CAMEL_CASE)
+                .build();
+        byte[] input = "{\"Field1\":\"a\"}\n{\"Field1\":\"b\"}\n".getBytes();
+        JsoniterSpi.setCurrentConfig(config);
+        try {
+            List<SimpleObject> records = new ParallelJsonLinesReader(executor, 2).read(input, SimpleObject.class);
+            assertEquals("a", records.get(0).field1);
+            assertEquals("b", records.get(1).field1);
+        } finally {
+            JsoniterSpi.clearCurrentConfig();
+        }
+    }
+}
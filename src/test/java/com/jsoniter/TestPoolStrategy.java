@@ -0,0 +1,87 @@
+package com.jsoniter;
+
+import com.jsoniter.output.JsonStream;
+import com.jsoniter.output.JsonStreamPool;
+import com.jsoniter.spi.JsoniterSpi;
+import com.jsoniter.spi.PoolStrategy;
+import junit.framework.TestCase;
+
+import java.util.Arrays;
+
+public class TestPoolStrategy extends TestCase {
+
+    @Override
+    protected void tearDown() throws Exception {
+        JsoniterSpi.setPoolStrategy(PoolStrategy.THREAD_LOCAL);
+    }
+
+    public void test_thread_local() {
+        JsoniterSpi.setPoolStrategy(PoolStrategy.THREAD_LOCAL);
+        JsonIterator iter = JsonIteratorPool.borrowJsonIterator();
+        JsonIteratorPool.returnJsonIterator(iter);
+        assertSame(iter, JsonIteratorPool.borrowJsonIterator());
+        assertRoundTrip();
+    }
+
+    public void test_striped() {
+        JsoniterSpi.setPoolStrategy(PoolStrategy.striped(16));
+        JsonIterator iter = JsonIteratorPool.borrowJsonIterator();
+        JsonIteratorPool.returnJsonIterator(iter);
+        assertSame(iter, JsonIteratorPool.borrowJsonIterator());
+        JsonStream stream = JsonStreamPool.borrowJsonStream();
+        JsonStreamPool.returnJsonStream(stream);
+        assertSame(stream, JsonStreamPool.borrowJsonStream());
+        assertRoundTrip();
+    }
+
+    public void test_striped_is_bounded() {
+        JsoniterSpi.setPoolStrategy(PoolStrategy.striped(4));
+        JsonIterator[] iters = new JsonIterator[10];
+        for (int i = 0; i < iters.length; i++) {
+            iters[i] = JsonIteratorPool.borrowJsonIterator();
+        }
+        for (JsonIterator iter : iters) {
+            JsonIteratorPool.returnJsonIterator(iter);
+        }
+        int reused = 0;
+        for (int i = 0; i < iters.length; i++) {
+            if (Arrays.asList(iters).contains(JsonIteratorPool.borrowJsonIterator())) {
+                reused++;
+            }
+        }
+        assertEquals(4, reused);
+    }
+
+    public void test_none() {
+        JsoniterSpi.setPoolStrategy(PoolStrategy.NONE);
+        JsonIterator iter = JsonIteratorPool.borrowJsonIterator();
+        JsonIteratorPool.returnJsonIterator(iter);
+        assertNotSame(iter, JsonIteratorPool.borrowJsonIterator());
+        assertRoundTrip();
+    }
+
+    public void test_large_buffer_not_kept() {
+        JsoniterSpi.setPoolStrategy(PoolStrategy.threadLocal(1024));
+        char[] chars = new char[4096];
+        Arrays.fill(chars, 'a');
+        String large = new String(chars);
+        assertEquals(large, JsonStream.serialize(large).substring(1, 4097));
+        JsonStream stream = JsonStreamPool.borrowJsonStream();
+        assertTrue(stream.buffer().data().length <= 1024);
+        JsonStreamPool.returnJsonStream(stream);
+        assertEquals(large, JsonIterator.deserialize("\"" + large + "\"", String.class));
+        assertEquals(large, JsonIterator.deserialize("{\"field1\":\"" + large + "\"}", SimpleObject.class).field1);
+        JsonIterator iter = JsonIteratorPool.borrowJsonIterator();
+        assertNull(iter.reusableBuf);
+        assertEquals(0, iter.buf.length);
+        assertNull(iter.words);
+        assertNull(iter.fieldBuf);
+        assertNull(iter.reusableSlice.data());
+        assertNull(iter.tempObjects);
+    }
+
+    private static void assertRoundTrip() {
+        assertEquals("[1,2]", JsonStream.serialize(new int[]{1, 2}));
+        assertEquals(2, JsonIterator.deserialize("[1,2]", int[].class)[1]);
+    }
+}
@@ -0,0 +1,232 @@
+package com.jsoniter;
+
+import com.jsoniter.spi.JsonException;
+import com.jsoniter.spi.TypeLiteral;
+import junit.framework.TestCase;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+@org.junit.experimental.categories.Category(StreamingCategory.class)
+public class TestPublisher extends TestCase {
+
+    // [{"id":0},{"id":1},...] generated while being read, never held in memory as a whole
+    private static class GeneratedArray extends InputStream {
+        private final int count;
+        private int generated;
+        private byte[] pending = "[".getBytes();
+        private int pendingPos;
+        long bytesRead;
+        boolean closed;
+
+        GeneratedArray(int count) {
+            this.count = count;
+        }
+
+        static int elementSize(int i) {
+            return ("{\"id\":" + i + "}").length() + 1; // with , or ]
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] b = new byte[1];
+            return read(b, 0, 1) == -1 ? -1 : b[0];
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (pendingPos == pending.length) {
+                if (generated == count) {
+                    return -1;
+                }
+                String element = "{\"id\":" + generated + "}" + (generated == count - 1 ? "]" : ",");
+                generated++;
+                pending = element.getBytes();
+                pendingPos = 0;
+            }
+            int n = Math.min(len, pending.length - pendingPos);
+            System.arraycopy(pending, pendingPos, b, off, n);
+            pendingPos += n;
+            bytesRead += n;
+            return n;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    public static class Element {
+        public int id;
+    }
+
+    private static class Collector<T> implements JsonPublisher.Subscriber<T> {
+        JsonPublisher.Subscription subscription;
+        final List<T> items = new ArrayList<T>();
+        Throwable error;
+        boolean completed;
+
+        public void onSubscribe(JsonPublisher.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        public void onNext(T item) {
+            items.add(item);
+        }
+
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        public void onComplete() {
+            completed = true;
+        }
+    }
+
+    public void test_read_on_demand() {
+        GeneratedArray input = new GeneratedArray(100);
+        JsonPublisher<Element> publisher = new JsonPublisher<Element>(input, 64, Element.class, true, null);
+        Collector<Element> collector = new Collector<Element>();
+        publisher.subscribe(collector);
+        assertEquals(0, input.bytesRead);
+        collector.subscription.request(3);
+        assertEquals(3, collector.items.size());
+        assertEquals(2, collector.items.get(2).id);
+        assertTrue(input.bytesRead <= 64 * 2);
+        collector.subscription.request(Long.MAX_VALUE);
+        assertEquals(100, collector.items.size());
+        assertTrue(collector.completed);
+        assertTrue(input.closed);
+    }
+
+    public void test_memory_stays_flat() {
+        final int count = 300000;
+        final int bufSize = 256;
+        final GeneratedArray input = new GeneratedArray(count);
+        JsonPublisher<Element> publisher = new JsonPublisher<Element>(input, bufSize, Element.class, true, null);
+        final long[] consumedBytes = new long[]{1};
+        final long[] maxReadAhead = new long[1];
+        final int[] received = new int[1];
+        publisher.subscribe(new Collector<Element>() {
+            @Override
+            public void onSubscribe(JsonPublisher.Subscription subscription) {
+                super.onSubscribe(subscription);
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(Element item) {
+                assertEquals(received[0], item.id);
+                consumedBytes[0] += GeneratedArray.elementSize(received[0]);
+                received[0]++;
+                maxReadAhead[0] = Math.max(maxReadAhead[0], input.bytesRead - consumedBytes[0]);
+                // one at a time, from inside onNext
+                subscription.request(1);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                throw new AssertionError(throwable);
+            }
+        });
+        assertEquals(count, received[0]);
+        // input of about 4MB, never read more than the buffer ahead of the consumer
+        assertTrue(input.bytesRead > 3 * 1000 * 1000);
+        assertTrue("read ahead " + maxReadAhead[0], maxReadAhead[0] <= bufSize);
+    }
+
+    public void test_sequence_of_documents() {
+        InputStream input = new ByteArrayInputStream("{\"a\":1} {\"a\":2}\n[3]".getBytes());
+        JsonPublisher<Object> publisher = new JsonPublisher<Object>(input, 4, Object.class, false, null);
+        Collector<Object> collector = new Collector<Object>();
+        publisher.subscribe(collector);
+        collector.subscription.request(10);
+        assertTrue(collector.completed);
+        assertEquals(3, collector.items.size());
+        assertEquals(2, ((Map) collector.items.get(1)).get("a"));
+        assertEquals(3, ((List) collector.items.get(2)).get(0));
+    }
+
+    public void test_type_literal() {
+        InputStream input = new ByteArrayInputStream("[[1,2],[],[3]]".getBytes());
+        JsonPublisher<List<Integer>> publisher = new JsonPublisher<List<Integer>>(
+                input, 8, new TypeLiteral<List<Integer>>() {
+        }, true, null);
+        Collector<List<Integer>> collector = new Collector<List<Integer>>();
+        publisher.subscribe(collector);
+        collector.subscription.request(2);
+        assertFalse(collector.completed);
+        assertEquals(2, collector.items.size());
+        assertEquals(0, collector.items.get(1).size());
+        collector.subscription.request(2);
+        assertTrue(collector.completed);
+        assertEquals(3, collector.items.get(2).get(0).intValue());
+    }
+
+    public void test_cancel() {
+        GeneratedArray input = new GeneratedArray(100);
+        JsonPublisher<Element> publisher = new JsonPublisher<Element>(input, 64, Element.class, true, null);
+        Collector<Element> collector = new Collector<Element>();
+        publisher.subscribe(collector);
+        collector.subscription.request(1);
+        collector.subscription.cancel();
+        collector.subscription.request(10);
+        assertEquals(1, collector.items.size());
+        assertFalse(collector.completed);
+        assertTrue(input.closed);
+    }
+
+    public void test_errors() {
+        InputStream input = new ByteArrayInputStream("[1,x]".getBytes());
+        Collector<Integer> collector = new Collector<Integer>();
+        new JsonPublisher<Integer>(input, 16, Integer.class, true, null).subscribe(collector);
+        collector.subscription.request(5);
+        assertEquals(1, collector.items.size());
+        assertTrue(String.valueOf(collector.error), collector.error instanceof JsonException);
+
+        input = new ByteArrayInputStream("[1] 2".getBytes());
+        collector = new Collector<Integer>();
+        new JsonPublisher<Integer>(input, 16, Integer.class, true, null).subscribe(collector);
+        collector.subscription.request(5);
+        assertTrue(String.valueOf(collector.error), collector.error instanceof JsonException);
+
+        input = new ByteArrayInputStream("[1]".getBytes());
+        collector = new Collector<Integer>();
+        JsonPublisher<Integer> publisher = new JsonPublisher<Integer>(input, 16, Integer.class, true, null);
+        publisher.subscribe(collector);
+        collector.subscription.request(0);
+        assertTrue(collector.error instanceof IllegalArgumentException);
+        Collector<Integer> second = new Collector<Integer>();
+        publisher.subscribe(second);
+        assertTrue(second.error instanceof IllegalStateException);
+    }
+
+    public void test_executor() throws InterruptedException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final CountDownLatch done = new CountDownLatch(1);
+            Collector<Element> collector = new Collector<Element>() {
+                @Override
+                public void onComplete() {
+                    super.onComplete();
+                    done.countDown();
+                }
+            };
+            new JsonPublisher<Element>(new GeneratedArray(1000), 64, Element.class, true, executor).subscribe(collector);
+            collector.subscription.request(Long.MAX_VALUE);
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+            assertEquals(1000, collector.items.size());
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.jsoniter;
+
+import com.jsoniter.spi.JsonException;
+import com.jsoniter.spi.TypeLiteral;
+import junit.framework.TestCase;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public class TestPushParser extends TestCase {
+
+    public void test_value_split_everywhere() throws IOException {
+        byte[] input = "{'field1':'a\\'b]}','nested':[[1,2],{}]} \"x\" 123 true".replace('\'', '"').getBytes();
+        for (int split = 0; split <= input.length; split++) {
+            JsonPushParser parser = new JsonPushParser(false, 4);
+            List<String> values = new ArrayList<String>();
+            feedAll(parser, input, 0, split, values);
+            feedAll(parser, input, split, input.length, values);
+            parser.endOfInput();
+            JsonPushParser.Event event;
+            while ((event = parser.next()) == JsonPushParser.Event.VALUE) {
+                values.add(parser.value().toString());
+            }
+            assertEquals(JsonPushParser.Event.END, event);
+            assertEquals(4, values.size());
+            assertEquals("{\"field1\":\"a\\\"b]}\",\"nested\":[[1,2],{}]}", values.get(0));
+            assertEquals("\"x\"", values.get(1));
+            assertEquals("123", values.get(2));
+            assertEquals("true", values.get(3));
+        }
+    }
+
+    private static void feedAll(JsonPushParser parser, byte[] input, int from, int to, List<String> values) {
+        for (int i = from; i < to; i++) {
+            parser.feed(input, i, 1);
+            while (parser.next() == JsonPushParser.Event.VALUE) {
+                values.add(parser.value().toString());
+            }
+        }
+    }
+
+    public void test_need_more_input() throws IOException {
+        JsonPushParser parser = new JsonPushParser();
+        assertEquals(JsonPushParser.Event.NEED_MORE_INPUT, parser.next());
+        parser.feed("{\"field1\":".getBytes());
+        assertEquals(JsonPushParser.Event.NEED_MORE_INPUT, parser.next());
+        parser.feed("\"hello\"}{\"fi".getBytes());
+        assertEquals(JsonPushParser.Event.VALUE, parser.next());
+        assertEquals("hello", parser.read(SimpleObject.class).field1);
+        assertEquals(JsonPushParser.Event.NEED_MORE_INPUT, parser.next());
+        parser.feed("eld1\":\"world\"}".getBytes());
+        assertEquals(JsonPushParser.Event.VALUE, parser.next());
+        assertEquals("world", parser.read(SimpleObject.class).field1);
+        // a top-level number is not complete until a delimiter or the end of input
+        parser.feed("12".getBytes());
+        assertEquals(JsonPushParser.Event.NEED_MORE_INPUT, parser.next());
+        parser.endOfInput();
+        assertEquals(JsonPushParser.Event.VALUE, parser.next());
+        assertEquals(12, parser.iterator().readInt());
+        assertEquals(JsonPushParser.Event.END, parser.next());
+    }
+
+    public void test_unwrap_array() throws IOException {
+        byte[] input = " [ {\"id\":1} , 2,\"three\",[4] ] ".getBytes();
+        for (int chunkSize = 1; chunkSize <= input.length; chunkSize++) {
+            JsonPushParser parser = new JsonPushParser(true, 2);
+            List<Object> elements = new ArrayList<Object>();
+            for (int i = 0; i < input.length; i += chunkSize) {
+                parser.feed(input, i, Math.min(chunkSize, input.length - i));
+                while (parser.next() == JsonPushParser.Event.VALUE) {
+                    elements.add(parser.read(Object.class));
+                }
+            }
+            parser.endOfInput();
+            assertEquals(JsonPushParser.Event.END, parser.next());
+            assertEquals(4, elements.size());
+            assertEquals(1, ((Map) elements.get(0)).get("id"));
+            assertEquals(2, elements.get(1));
+            assertEquals("three", elements.get(2));
+            assertEquals(4, ((List) elements.get(3)).get(0));
+        }
+    }
+
+    public void test_unwrap_empty_array() {
+        JsonPushParser parser = new JsonPushParser(true);
+        parser.feed("[ ]".getBytes());
+        parser.endOfInput();
+        assertEquals(JsonPushParser.Event.END, parser.next());
+    }
+
+    public void test_read_type_literal() throws IOException {
+        JsonPushParser parser = new JsonPushParser();
+        parser.feed("[1,2,3]".getBytes());
+        assertEquals(JsonPushParser.Event.VALUE, parser.next());
+        List<Integer> list = parser.read(new TypeLiteral<List<Integer>>() {
+        });
+        assertEquals(3, list.size());
+    }
+
+    public void test_premature_end() {
+        JsonPushParser parser = new JsonPushParser();
+        parser.feed("{\"field1\":".getBytes());
+        parser.endOfInput();
+        try {
+            parser.next();
+            fail();
+        } catch (JsonException e) {
+        }
+        parser = new JsonPushParser(true);
+        parser.feed("[1,".getBytes());
+        assertEquals(JsonPushParser.Event.VALUE, parser.next());
+        parser.endOfInput();
+        try {
+            parser.next();
+            fail();
+        } catch (JsonException e) {
+        }
+    }
+
+    public void test_malformed() throws IOException {
+        JsonPushParser parser = new JsonPushParser(true);
+        parser.feed("[1 2]".getBytes());
+        assertEquals(JsonPushParser.Event.VALUE, parser.next());
+        try {
+            parser.next();
+            fail();
+        } catch (JsonException e) {
+        }
+        parser = new JsonPushParser(true);
+        parser.feed("[1] 2".getBytes());
+        assertEquals(JsonPushParser.Event.VALUE, parser.next());
+        try {
+            parser.next();
+            fail();
+        } catch (JsonException e) {
+        }
+        parser = new JsonPushParser();
+        parser.feed("12ab ".getBytes());
+        assertEquals(JsonPushParser.Event.VALUE, parser.next());
+        try {
+            parser.read(int.class);
+            fail();
+        } catch (JsonException e) {
+        }
+    }
+
+    public void test_no_value() {
+        JsonPushParser parser = new JsonPushParser();
+        try {
+            parser.iterator();
+            fail();
+        } catch (JsonException e) {
+        }
+    }
+}
@@ -192,4 +192,13 @@ public class TestReadAny extends TestCase {
         }
         assertEquals("[3, 4]", elements.get(2).toString());
     }
+
+    public void test_read_any_with_index() throws IOException {
+        JsonIterator iter = JsonIterator.parseWithIndex("{'a': [1, {'b': 'c'}], 'd': {'e': [2, '}']}}".replace('\'', '"').getBytes());
+        Any any = iter.readAny();
+        assertEquals("c", any.toString("a", 1, "b"));
+        assertEquals("}", any.toString("d", "e", 1));
+        assertEquals(2, any.get("a").size());
+        assertEquals("{\"b\": \"c\"}", any.get("a", 1).toString());
+    }
 }
@@ -74,4 +74,34 @@ public class TestSkip extends TestCase {
         assertEquals(2, iter.readInt());
         assertFalse(iter.readArray());
     }
+
+    public void test_skip_with_index() throws IOException {
+        JsonIterator iter = JsonIterator.parseWithIndex("[ [1, {'a': ['b]\\\\'] },  3] ,'x\\'y', {}, 2]".replace('\'', '"').getBytes());
+        assertTrue(iter.readArray());
+        iter.skip();
+        assertTrue(iter.readArray());
+        iter.skip();
+        assertTrue(iter.readArray());
+        iter.skip();
+        assertTrue(iter.readArray());
+        assertEquals(2, iter.readInt());
+        assertFalse(iter.readArray());
+    }
+
+    public void test_skip_with_index_on_malformed_input() throws IOException {
+        JsonIterator iter = JsonIterator.parseWithIndex("[{'a': [1}, 2]".replace('\'', '"').getBytes());
+        assertTrue(iter.readArray());
+        iter.skip(); // the byte scan does not check [ inside of object
+        assertTrue(iter.readArray());
+        assertEquals(2, iter.readInt());
+        iter = JsonIterator.parseWithIndex("[1, 'abc".replace('\'', '"').getBytes());
+        assertTrue(iter.readArray());
+        iter.skip();
+        assertTrue(iter.readArray());
+        try {
+            iter.skip();
+            fail();
+        } catch (JsonException e) {
+        }
+    }
 }
@@ -0,0 +1,109 @@
+package com.jsoniter;
+
+import com.jsoniter.any.Any;
+import com.jsoniter.spi.Slice;
+import com.jsoniter.spi.TypeLiteral;
+import junit.framework.TestCase;
+import org.junit.experimental.categories.Category;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+@Category(StreamingCategory.class)
+public class TestStreaming extends TestCase {
+
+    // 16 bytes a read, so most values are split across loads of the buffer
+    private static JsonIterator streaming(String json) throws IOException {
+        return JsonIterator.parse(new ByteArrayInputStream(json.replace('\'', '"').getBytes("UTF-8")), 16);
+    }
+
+    public void test_object_fields() throws IOException {
+        JsonIterator iter = streaming("{ 'field1' : 'hello' , 'field2': 'wor\\u006cd \\n\u4e2d\u6587' }");
+        assertEquals("field1", iter.readObject());
+        assertEquals("hello", iter.readString());
+        assertEquals("field2", iter.readObject());
+        assertEquals("world \n\u4e2d\u6587", iter.readString());
+        assertNull(iter.readObject());
+    }
+
+    public void test_bind_object() throws IOException {
+        JsonIterator iter = streaming("{ 'field1'\r:\n\t'hello', 'unknown': [1, {'a': '}'}], 'field2': 'world' }");
+        SimpleObject obj = iter.read(SimpleObject.class);
+        assertEquals("hello", obj.field1);
+        assertEquals("world", obj.field2);
+    }
+
+    public void test_array_of_objects() throws IOException {
+        JsonIterator iter = streaming("[{'field1':'11','field2':'12'},{'field1':'21','field2':'22'}]");
+        SimpleObject[] objects = iter.read(SimpleObject[].class);
+        assertEquals(2, objects.length);
+        assertEquals("12", objects[0].field2);
+        assertEquals("21", objects[1].field1);
+    }
+
+    public void test_numbers() throws IOException {
+        JsonIterator iter = streaming("[ 1234567890, -9223372036854775808, 1.5e300, 3.25, "
+                + "-12345678901234567890.125, 123456789012345678901234567890, 0.000001 ]");
+        assertTrue(iter.readArray());
+        assertEquals(1234567890, iter.readInt());
+        assertTrue(iter.readArray());
+        assertEquals(Long.MIN_VALUE, iter.readLong());
+        assertTrue(iter.readArray());
+        assertEquals(1.5e300, iter.readDouble());
+        assertTrue(iter.readArray());
+        assertEquals(3.25f, iter.readFloat());
+        assertTrue(iter.readArray());
+        assertEquals(new BigDecimal("-12345678901234567890.125"), iter.readBigDecimal());
+        assertTrue(iter.readArray());
+        assertEquals(new BigInteger("123456789012345678901234567890"), iter.readBigInteger());
+        assertTrue(iter.readArray());
+        assertEquals(0.000001, iter.readDouble());
+        assertFalse(iter.readArray());
+    }
+
+    public void test_int_array() throws IOException {
+        int[] array = streaming(" [ 1 , 2, 3, 4, 5, 600000, -7000000  ] ").read(int[].class);
+        assertTrue(Arrays.equals(new int[]{1, 2, 3, 4, 5, 600000, -7000000}, array));
+    }
+
+    public void test_skip() throws IOException {
+        JsonIterator iter = streaming("{'a': [1, 'x\\\"]', {'b': null, 'c': true}], 'd': 'long string value', 'e': 2}");
+        assertEquals("a", iter.readObject());
+        iter.skip();
+        assertEquals("d", iter.readObject());
+        iter.skip();
+        assertEquals("e", iter.readObject());
+        assertEquals(2, iter.readInt());
+        assertNull(iter.readObject());
+    }
+
+    public void test_read_any() throws IOException {
+        Any any = streaming("{'a': [1, {'b': 'hello world'}], 'c': 3.5}").readAny();
+        assertEquals("hello world", any.toString("a", 1, "b"));
+        assertEquals(3.5, any.toDouble("c"));
+    }
+
+    public void test_untyped() throws IOException {
+        Map map = (Map) streaming("{'list': [1, 'two', null, false], 'nested': {'key': 'value'}}").read();
+        assertEquals(Arrays.asList(1, "two", null, false), map.get("list"));
+        assertEquals("value", ((Map) map.get("nested")).get("key"));
+    }
+
+    public void test_generic_list() throws IOException {
+        List<String> list = streaming("['abcdefghijklmnopqrstuvwxyz', '0123456789']").read(new TypeLiteral<List<String>>() {
+        });
+        assertEquals(Arrays.asList("abcdefghijklmnopqrstuvwxyz", "0123456789"), list);
+    }
+
+    public void test_slice_across_loads() throws IOException {
+        JsonIterator iter = streaming("['abcdefghijklmnopqrstuvwxyz']");
+        assertTrue(iter.readArray());
+        Slice slice = iter.readStringAsSlice();
+        assertEquals("abcdefghijklmnopqrstuvwxyz", slice.toString());
+    }
+}
@@ -125,4 +125,17 @@ public class TestString extends TestCase {
         JsonIterator iter = JsonIterator.parse(new ByteArrayInputStream("\"[\\\"LL\\\",\\\"MM\\\\\\/LW\\\",\\\"JY\\\",\\\"S\\\",\\\"C\\\",\\\"IN\\\",\\\"ME \\\\\\/ LE\\\"]\"".getBytes()), 2);
         assertEquals("[\"LL\",\"MM\\/LW\",\"JY\",\"S\",\"C\",\"IN\",\"ME \\/ LE\"]", iter.readString());
     }
+
+    public void test_string_crossing_word_boundary() throws IOException {
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 40; i++) {
+            JsonIterator iter = JsonIterator.parse(("\"" + expected + "\"").getBytes());
+            assertEquals(expected.toString(), iter.readString());
+            iter = JsonIterator.parse(("\"" + expected + "\\t\"").getBytes());
+            assertEquals(expected + "\t", iter.readString());
+            iter = JsonIterator.parse(("\"" + expected + "中文\"").getBytes("UTF-8"));
+            assertEquals(expected + "中文", iter.readString());
+            expected.append((char) ('a' + i % 26));
+        }
+    }
 }
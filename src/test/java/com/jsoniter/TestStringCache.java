@@ -0,0 +1,108 @@
+package com.jsoniter;
+
+import com.jsoniter.annotation.JsonDedup;
+import com.jsoniter.spi.Config;
+import com.jsoniter.spi.JsonException;
+import com.jsoniter.spi.StringCache;
+import junit.framework.TestCase;
+import org.junit.experimental.categories.Category;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+public class TestStringCache extends TestCase {
+
+    private boolean isStreaming;
+
+    public void test_read_string() throws IOException {
+        StringCache cache = new StringCache(16);
+        String first = parse("\"active\"").readString(cache);
+        String second = parse(" \"active\" ").readString(cache);
+        assertEquals("active", first);
+        assertSame(first, second);
+        assertNull(parse("null").readString(cache));
+        assertEquals("a\"b", parse("\"a\\\"b\"").readString(cache));
+        assertEquals("中文", parse("\"中文\"").readString(cache));
+        try {
+            parse("1").readString(cache);
+            fail();
+        } catch (JsonException e) {
+        }
+    }
+
+    public void test_metrics_and_eviction() {
+        StringCache cache = new StringCache(8, 4);
+        byte[] hot = "hot".getBytes();
+        String hotString = cache.lookup(hot, 0, hot.length);
+        for (int i = 0; i < 100; i++) {
+            assertSame(hotString, cache.lookup(hot, 0, hot.length));
+            byte[] cold = ("c" + i).getBytes();
+            assertEquals("c" + i, cache.lookup(cold, 0, cold.length));
+        }
+        assertEquals(100, cache.hits());
+        assertEquals(101, cache.misses());
+        assertEquals(0.5, cache.hitRate(), 0.01);
+        assertTrue(cache.evictions() > 0);
+        byte[] tooLong = "longer".getBytes();
+        assertEquals("longer", cache.lookup(tooLong, 0, tooLong.length));
+        assertEquals(101, cache.misses());
+    }
+
+    public static class Order {
+        @JsonDedup
+        public String status;
+        public String id;
+    }
+
+    public void test_dedup_field() throws IOException {
+        Order first = JsonIterator.deserialize("{\"status\":\"shipped\",\"id\":\"o1\"}", Order.class);
+        Order second = JsonIterator.deserialize("{\"status\":\"shipped\",\"id\":\"o1\"}", Order.class);
+        assertEquals("shipped", first.status);
+        assertSame(first.status, second.status);
+        assertNotSame(first.id, second.id);
+        assertNull(JsonIterator.deserialize("{\"status\":null}", Order.class).status);
+    }
+
+    public static class NotString {
+        @JsonDedup
+        public int status;
+    }
+
+    public void test_not_string() {
+        try {
+            JsonIterator.deserialize("{\"status\":1}", NotString.class);
+            fail();
+        } catch (JsonException e) {
+        }
+    }
+
+    public static class Event {
+        public String country;
+        public String type;
+    }
+
+    public void test_config() throws IOException {
+        StringCache cache = new StringCache(64);
+        Config config = new Config.Builder().stringCache(cache).build();
+        Event first = JsonIterator.deserialize(config, "{\"country\":\"NZ\",\"type\":\"view\"}", Event.class);
+        Event second = JsonIterator.deserialize(config, "{\"country\":\"NZ\",\"type\":\"click\"}", Event.class);
+        assertSame(first.country, second.country);
+        assertEquals("click", second.type);
+        assertEquals(1, cache.hits());
+        assertEquals(3, cache.misses());
+    }
+
+    @Category(StreamingCategory.class)
+    public void test_streaming() throws IOException {
+        isStreaming = true;
+        test_read_string();
+    }
+
+    private JsonIterator parse(String input) throws IOException {
+        byte[] bytes = input.getBytes("UTF-8");
+        if (isStreaming) {
+            return JsonIterator.parse(new ByteArrayInputStream(bytes), 32);
+        }
+        return JsonIterator.parse(bytes);
+    }
+}
@@ -0,0 +1,101 @@
+package com.jsoniter;
+
+import com.jsoniter.spi.SymbolTable;
+import junit.framework.TestCase;
+import org.junit.experimental.categories.Category;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public class TestSymbolTable extends TestCase {
+
+    private boolean isStreaming;
+
+    public void test_canonical_key() throws IOException {
+        Map first = (Map) parse("{\"symbol_key\":1}").read();
+        Map second = (Map) parse("{\"symbol_key\":2}").read();
+        String firstKey = (String) first.keySet().iterator().next();
+        String secondKey = (String) second.keySet().iterator().next();
+        assertEquals("symbol_key", firstKey);
+        assertSame(firstKey, secondKey);
+        JsonIterator iter = parse("{\"symbol_key\":3}");
+        assertSame(firstKey, iter.readObject());
+    }
+
+    public void test_escaped_and_utf8_key() throws IOException {
+        Map map = (Map) parse("{\"a\\\"b\":1,\"中文\":2}").read();
+        assertEquals(1, map.get("a\"b"));
+        assertEquals(2, map.get("中文"));
+    }
+
+    public void test_lookup() {
+        SymbolTable symbols = new SymbolTable(16);
+        byte[] buf = "xxabcxxabc".getBytes();
+        String abc = symbols.lookup(buf, 2, 5);
+        assertEquals("abc", abc);
+        assertSame(abc, symbols.lookup(buf, 7, 10));
+        // evicted keys are still looked up correctly
+        for (int i = 0; i < 1000; i++) {
+            byte[] key = ("key" + i).getBytes();
+            assertEquals("key" + i, symbols.lookup(key, 0, key.length));
+        }
+        assertEquals("abc", symbols.lookup(buf, 2, 5));
+        byte[] longKey = new byte[SymbolTable.MAX_SYMBOL_LENGTH + 1];
+        java.util.Arrays.fill(longKey, (byte) 'a');
+        assertEquals(new String(longKey), symbols.lookup(longKey, 0, longKey.length));
+    }
+
+    public void test_register() {
+        SymbolTable symbols = new SymbolTable(16);
+        List<String> names = new ArrayList<String>();
+        for (int i = 0; i < 100; i++) {
+            String field = "field" + i;
+            names.add(field);
+            assertEquals(i, symbols.register(field));
+        }
+        assertEquals(7, symbols.register("field7"));
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, symbols.symbolId(names.get(i)));
+            assertEquals(names.get(i), symbols.symbol(i));
+        }
+        assertEquals(SymbolTable.NOT_FOUND, symbols.symbolId("field100"));
+        byte[] buf = "field42".getBytes();
+        assertSame(names.get(42), symbols.lookup(buf, 0, buf.length));
+    }
+
+    public void test_read_object_symbol() throws IOException {
+        SymbolTable symbols = new SymbolTable(16);
+        int price = symbols.register("price");
+        int name = symbols.register("名");
+        JsonIterator iter = parse("{\"price\": 10, \"other\": [1], \"名\": \"x\"}");
+        assertEquals(price, iter.readObjectSymbol(symbols));
+        assertEquals(10, iter.readInt());
+        assertEquals(SymbolTable.NOT_FOUND, iter.readObjectSymbol(symbols));
+        iter.skip();
+        assertEquals(name, iter.readObjectSymbol(symbols));
+        assertEquals("x", iter.readString());
+        assertEquals(SymbolTable.END_OF_OBJECT, iter.readObjectSymbol(symbols));
+        assertEquals(SymbolTable.END_OF_OBJECT, parse("{}").readObjectSymbol(symbols));
+        assertEquals(SymbolTable.END_OF_OBJECT, parse("null").readObjectSymbol(symbols));
+    }
+
+    @Category(StreamingCategory.class)
+    public void test_streaming() throws IOException {
+        isStreaming = true;
+        test_canonical_key();
+        test_escaped_and_utf8_key();
+        test_read_object_symbol();
+    }
+
+    private JsonIterator parse(String input) throws IOException {
+        byte[] bytes = input.getBytes("UTF-8");
+        if (isStreaming) {
+            // a key crossing the end of the buffer is decoded without the symbol table
+            return JsonIterator.parse(new ByteArrayInputStream(bytes), 32);
+        }
+        return JsonIterator.parse(bytes);
+    }
+}
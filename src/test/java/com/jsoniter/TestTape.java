@@ -0,0 +1,93 @@
+package com.jsoniter;
+
+import com.jsoniter.output.JsonStream;
+import com.jsoniter.spi.JsonException;
+import junit.framework.TestCase;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+public class TestTape extends TestCase {
+
+    public void test_get_path() {
+        JsonTape tape = JsonTape.parse("{'a': [1, {'b': 'hello'}, 2.5], 'c\\u0064': true, '中': null}".replace('\'', '"'));
+        int root = tape.root();
+        assertEquals(ValueType.OBJECT, tape.valueType(root));
+        assertEquals(3, tape.size(root));
+        assertEquals(3, tape.size(tape.get(root, "a")));
+        assertEquals(1, tape.toInt(tape.get(root, "a", 0)));
+        assertEquals("hello", tape.toString(tape.get(root, "a", 1, "b")));
+        assertEquals(2.5, tape.toDouble(tape.get(root, "a", 2)));
+        assertTrue(tape.toBoolean(tape.get(root, "cd")));
+        assertEquals(ValueType.NULL, tape.valueType(tape.get(root, "中")));
+        assertEquals(JsonTape.NOT_FOUND, tape.get(root, "a", 3));
+        assertEquals(JsonTape.NOT_FOUND, tape.get(root, "x", 0));
+        assertEquals(ValueType.INVALID, tape.valueType(tape.get(root, "a", "b")));
+        assertEquals(0, tape.size(tape.get(root, "x")));
+    }
+
+    public void test_cursor() {
+        JsonTape tape = JsonTape.parse("{'a': [], 'b': {}, 'c': [[1], 2]}".replace('\'', '"'));
+        List<String> keys = new ArrayList<String>();
+        List<ValueType> values = new ArrayList<ValueType>();
+        for (int key = tape.first(tape.root()); key != JsonTape.NOT_FOUND; key = tape.next(tape.value(key))) {
+            keys.add(tape.toString(key));
+            values.add(tape.valueType(tape.value(key)));
+        }
+        assertEquals("[a, b, c]", keys.toString());
+        assertEquals("[ARRAY, OBJECT, ARRAY]", values.toString());
+        assertEquals(JsonTape.NOT_FOUND, tape.first(tape.get(tape.root(), "a")));
+        int element = tape.first(tape.get(tape.root(), "c"));
+        assertEquals(ValueType.ARRAY, tape.valueType(element));
+        element = tape.next(element);
+        assertEquals(2, tape.toLong(element));
+        assertEquals(JsonTape.NOT_FOUND, tape.next(element));
+    }
+
+    public void test_as() {
+        JsonTape tape = JsonTape.parse("[{'field1': 'hello'}]".replace('\'', '"'));
+        SimpleObject obj = tape.as(tape.get(tape.root(), 0), SimpleObject.class);
+        assertEquals("hello", obj.field1);
+    }
+
+    public void test_write_to() throws IOException {
+        JsonTape tape = JsonTape.parse("{'a': [1, {'b': 'hello'}], 'c': 'world'}".replace('\'', '"'));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonStream stream = new JsonStream(out, 64);
+        tape.writeTo(tape.get(tape.root(), "a"), stream);
+        stream.write(' ');
+        tape.writeTo(tape.get(tape.root(), "c"), stream);
+        stream.close();
+        assertEquals("[1, {\"b\": \"hello\"}] \"world\"", out.toString());
+    }
+
+    public void test_malformed() {
+        try {
+            JsonTape.parse("{'a': [1, 2}".replace('\'', '"'));
+            fail();
+        } catch (JsonException e) {
+        }
+        try {
+            JsonTape.parse("{'a' 1}".replace('\'', '"'));
+            fail();
+        } catch (JsonException e) {
+        }
+        try {
+            JsonTape.parse("[1, 2");
+            fail();
+        } catch (JsonException e) {
+        }
+        try {
+            JsonTape.parse("[1, 2] 3");
+            fail();
+        } catch (JsonException e) {
+        }
+    }
+
+    public void test_trailing_space() {
+        JsonTape tape = JsonTape.parse(" [1, 2] \n");
+        assertEquals(2, tape.size(tape.root()));
+    }
+}
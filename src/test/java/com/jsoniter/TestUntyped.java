@@ -0,0 +1,81 @@
+package com.jsoniter;
+
+import com.jsoniter.spi.JsonException;
+import com.jsoniter.spi.JsoniterSpi;
+import junit.framework.TestCase;
+import org.junit.experimental.categories.Category;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.*;
+
+public class TestUntyped extends TestCase {
+
+    private boolean isStreaming;
+
+    public void test_numbers() throws IOException {
+        assertEquals(0, parse("0"));
+        assertEquals(-1, parse("-1"));
+        assertEquals(Integer.MAX_VALUE, parse("2147483647"));
+        assertEquals(Integer.MIN_VALUE, parse("-2147483648"));
+        assertEquals(2147483648L, parse("2147483648"));
+        assertEquals(-999999999999999999L, parse("-999999999999999999"));
+        assertEquals(Long.MAX_VALUE, parse("9223372036854775807"));
+        assertEquals(Long.MIN_VALUE, parse("-9223372036854775808"));
+        assertEquals(1e20, parse("100000000000000000000"));
+        assertEquals(1.5, parse("1.5"));
+        assertEquals(-0.25, parse("-0.25"));
+        assertEquals(100.0, parse("1e2"));
+        assertEquals(1.0, parse("1.0"));
+    }
+
+    public void test_containers() throws IOException {
+        Object val = parse("{\"a\":[1,2.5,\"x\",true,false,null,{}],\"b\":{\"c\":[]},\"d\":123456789012}");
+        Map expected = new HashMap();
+        expected.put("a", Arrays.asList(1, 2.5, "x", true, false, null, new HashMap()));
+        expected.put("b", Collections.singletonMap("c", new ArrayList()));
+        expected.put("d", 123456789012L);
+        assertEquals(expected, val);
+        assertEquals(Arrays.asList(1, Arrays.asList(2, Arrays.asList(3))), parse(" [ 1 , [ 2 , [ 3 ] ] ] "));
+    }
+
+    public void test_malformed() throws IOException {
+        String[] inputs = {"[1,2", "[1 2]", "{\"a\" 1}", "{\"a\":1,}", "{1:1}", "]", "-"};
+        for (String input : inputs) {
+            try {
+                parse(input);
+                fail(input);
+            } catch (JsonException e) {
+            }
+        }
+    }
+
+    public void test_registered_implementation() throws IOException {
+        JsoniterSpi.registerTypeImplementation(Map.class, LinkedHashMap.class);
+        JsoniterSpi.registerTypeImplementation(List.class, LinkedList.class);
+        try {
+            Map map = (Map) parse("{\"z\":[1],\"y\":2,\"x\":3}");
+            assertEquals(LinkedHashMap.class, map.getClass());
+            assertEquals(Arrays.asList("z", "y", "x"), new ArrayList(map.keySet()));
+            assertEquals(LinkedList.class, map.get("z").getClass());
+        } finally {
+            JsoniterSpi.registerTypeImplementation(Map.class, null);
+            JsoniterSpi.registerTypeImplementation(List.class, null);
+        }
+    }
+
+    @Category(StreamingCategory.class)
+    public void test_streaming() throws IOException {
+        isStreaming = true;
+        test_numbers();
+        test_containers();
+        test_malformed();
+    }
+
+    private Object parse(String input) throws IOException {
+        if (isStreaming) {
+            return JsonIterator.parse(new ByteArrayInputStream(input.getBytes()), 2).read();
+        }
+        return JsonIterator.parse(input).read();
+    }
+}
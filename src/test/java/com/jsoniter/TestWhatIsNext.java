@@ -9,4 +9,16 @@ public class TestWhatIsNext extends TestCase {
         JsonIterator parser = JsonIterator.parse("{}");
         assertEquals(ValueType.OBJECT, parser.whatIsNext());
     }
+
+    public void test_indented() throws IOException {
+        JsonIterator parser = JsonIterator.parse("{\n                \"a\" :\t\r\n                 [ 1 ,                     2 ]\n}");
+        assertEquals("a", parser.readObject());
+        assertEquals(ValueType.ARRAY, parser.whatIsNext());
+        assertTrue(parser.readArray());
+        assertEquals(1, parser.readInt());
+        assertTrue(parser.readArray());
+        assertEquals(2, parser.readInt());
+        assertFalse(parser.readArray());
+        assertNull(parser.readObject());
+    }
 }
@@ -0,0 +1,60 @@
+package com.jsoniter.output;
+
+import com.jsoniter.JsonIterator;
+import com.jsoniter.annotation.JsonFixedPoint;
+import junit.framework.TestCase;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Random;
+
+public class TestAnnotationJsonFixedPoint extends TestCase {
+
+    public static class Price {
+        @JsonFixedPoint(2)
+        public long cents;
+        @JsonFixedPoint(6)
+        public long micros;
+    }
+
+    public void test_field() {
+        Price price = new Price();
+        price.cents = 1234;
+        price.micros = -1;
+        assertEquals("{\"cents\":12.34,\"micros\":-0.000001}", JsonStream.serialize(price));
+    }
+
+    public void test_round_trip() throws IOException {
+        Price price = new Price();
+        price.cents = 5;
+        price.micros = 123456789;
+        Price read = JsonIterator.deserialize(JsonStream.serialize(price), Price.class);
+        assertEquals(5, read.cents);
+        assertEquals(123456789, read.micros);
+    }
+
+    public void test_write_fixed_point() throws IOException {
+        assertEquals("12.34", write(1234, 2));
+        assertEquals("0.05", write(5, 2));
+        assertEquals("-0.05", write(-5, 2));
+        assertEquals("0.00", write(0, 2));
+        assertEquals("1234", write(1234, 0));
+        assertEquals("92233720368547758.07", write(Long.MAX_VALUE, 2));
+        assertEquals("-92233720368547758.08", write(Long.MIN_VALUE, 2));
+        assertEquals("-9.223372036854775808", write(Long.MIN_VALUE, 18));
+        Random random = new Random(42);
+        for (int i = 0; i < 10000; i++) {
+            long val = random.nextLong() >> random.nextInt(64);
+            int scale = random.nextInt(19);
+            String text = write(val, scale);
+            assertEquals(BigDecimal.valueOf(val, scale).toPlainString(), text);
+            assertEquals(val, JsonIterator.parse(text).readFixedPoint(scale));
+        }
+    }
+
+    private String write(long val, int scale) throws IOException {
+        JsonStream stream = new JsonStream(null, 32);
+        stream.writeFixedPoint(val, scale);
+        return stream.buffer().toString();
+    }
+}
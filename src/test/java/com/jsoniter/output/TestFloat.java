@@ -1,17 +1,103 @@
 package com.jsoniter.output;
 
+import com.jsoniter.spi.Config;
 import junit.framework.TestCase;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Random;
 
 public class TestFloat extends TestCase {
+
+    private static final Config PRECISE = new Config.Builder().preciseFloat(true).build();
+
     public void testBigDecimal() {
         assertEquals("100.1", JsonStream.serialize(new BigDecimal("100.1")));
     }
+
+    public void test_big_decimal_same_as_to_string() {
+        String[] inputs = new String[]{"0", "0.0", "-0.000", "1", "-1.5", "0.000001", "0.0000001", "1.23E-7", "1E+3",
+                "123456789012345678", "-0.123456789012345678", "12345678901234567890.5", "0.1234567890123456789",
+                "1E-19", "100000000000000000000"};
+        for (String input : inputs) {
+            BigDecimal val = new BigDecimal(input);
+            assertEquals(input, val.toString(), JsonStream.serialize(val));
+        }
+        Random random = new Random(1);
+        for (int i = 0; i < 10000; i++) {
+            BigDecimal val = BigDecimal.valueOf(random.nextLong() >> random.nextInt(64), random.nextInt(30) - 5);
+            assertEquals(val.toString(), JsonStream.serialize(val));
+        }
+        assertEquals("[1.50,null]", JsonStream.serialize(new BigDecimal[]{new BigDecimal("1.50"), null}));
+    }
+
+    public void test_big_integer() {
+        assertEquals("-9223372036854775808", JsonStream.serialize(BigInteger.valueOf(Long.MIN_VALUE)));
+        assertEquals("9223372036854775808", JsonStream.serialize(BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.ONE)));
+        assertEquals("0", JsonStream.serialize(BigInteger.ZERO));
+    }
     public void test_infinity() {
         assertEquals("\"Infinity\"", JsonStream.serialize(Double.POSITIVE_INFINITY));
         assertEquals("\"Infinity\"", JsonStream.serialize(Float.POSITIVE_INFINITY));
         assertEquals("\"-Infinity\"", JsonStream.serialize(Double.NEGATIVE_INFINITY));
         assertEquals("\"-Infinity\"", JsonStream.serialize(Float.NEGATIVE_INFINITY));
+        assertEquals("\"Infinity\"", JsonStream.serialize(PRECISE, Double.POSITIVE_INFINITY));
+        assertEquals("\"-Infinity\"", JsonStream.serialize(PRECISE, Float.NEGATIVE_INFINITY));
+    }
+
+    public void test_precise_format() {
+        assertEquals("0", JsonStream.serialize(PRECISE, 0d));
+        assertEquals("-0", JsonStream.serialize(PRECISE, -0d));
+        assertEquals("1", JsonStream.serialize(PRECISE, 1d));
+        assertEquals("-1.5", JsonStream.serialize(PRECISE, -1.5d));
+        assertEquals("0.1", JsonStream.serialize(PRECISE, 0.1d));
+        assertEquals("0.30000000000000004", JsonStream.serialize(PRECISE, 0.1d + 0.2d));
+        assertEquals("123.456", JsonStream.serialize(PRECISE, 123.456d));
+        assertEquals("0.000001", JsonStream.serialize(PRECISE, 0.000001d));
+        assertEquals("1e-7", JsonStream.serialize(PRECISE, 1e-7d));
+        assertEquals("1.5e-7", JsonStream.serialize(PRECISE, 1.5e-7d));
+        assertEquals("100000000000000000000", JsonStream.serialize(PRECISE, 1e20d));
+        assertEquals("1e+21", JsonStream.serialize(PRECISE, 1e21d));
+        assertEquals("1.7976931348623157e+308", JsonStream.serialize(PRECISE, Double.MAX_VALUE));
+        assertEquals("4.9e-324", JsonStream.serialize(PRECISE, Double.MIN_VALUE));
+        assertEquals("2.2250738585072014e-308", JsonStream.serialize(PRECISE, Double.MIN_NORMAL));
+        assertEquals("9007199254740994", JsonStream.serialize(PRECISE, 9007199254740994d));
+        assertEquals("0.1", JsonStream.serialize(PRECISE, 0.1f));
+        assertEquals("16777216", JsonStream.serialize(PRECISE, 16777216f));
+        assertEquals("3.4028235e+38", JsonStream.serialize(PRECISE, Float.MAX_VALUE));
+        assertEquals("1.4e-45", JsonStream.serialize(PRECISE, Float.MIN_VALUE));
+        assertEquals("[1.1,2.5]", JsonStream.serialize(PRECISE, new double[]{1.1, 2.5}));
+    }
+
+    public void test_precise_round_trip() {
+        Random random = new Random(1);
+        for (int i = 0; i < 100000; i++) {
+            double d = Double.longBitsToDouble(random.nextLong());
+            if (!Double.isNaN(d) && !Double.isInfinite(d)) {
+                String json = JsonStream.serialize(PRECISE, d);
+                assertEquals(json, d, Double.parseDouble(json));
+                // the shortest, jdk before 19 sometimes writes one digit more
+                assertTrue(json, significantDigits(json) <= significantDigits(Double.toString(d)));
+            }
+            float f = Float.intBitsToFloat(random.nextInt());
+            if (!Float.isNaN(f) && !Float.isInfinite(f)) {
+                String json = JsonStream.serialize(PRECISE, f);
+                assertEquals(json, f, Float.parseFloat(json));
+                assertTrue(json, significantDigits(json) <= significantDigits(Float.toString(f)));
+            }
+        }
+    }
+
+    private static int significantDigits(String number) {
+        String mantissa = number.split("[eE]")[0].replace("-", "").replace(".", "");
+        int start = 0;
+        while (start < mantissa.length() - 1 && mantissa.charAt(start) == '0') {
+            start++;
+        }
+        int end = mantissa.length();
+        while (end > start + 1 && mantissa.charAt(end - 1) == '0') {
+            end--;
+        }
+        return end - start;
     }
 }
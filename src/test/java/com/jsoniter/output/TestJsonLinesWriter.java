@@ -0,0 +1,46 @@
+package com.jsoniter.output;
+
+import com.jsoniter.spi.Config;
+import com.jsoniter.spi.JsonException;
+import com.jsoniter.spi.JsoniterSpi;
+import junit.framework.TestCase;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+public class TestJsonLinesWriter extends TestCase {
+
+    public void test_flush_by_records() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonLinesWriter writer = new JsonLinesWriter(out, 2, 1024);
+        writer.write(1);
+        assertEquals(0, out.size());
+        writer.write("hello");
+        assertEquals("1\n\"hello\"\n", out.toString());
+        writer.writeRaw("{}".getBytes(), 0, 2);
+        writer.close();
+        assertEquals("1\n\"hello\"\n{}\n", out.toString());
+    }
+
+    public void test_flush_by_bytes() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonLinesWriter writer = new JsonLinesWriter(out, 1000, 10);
+        writer.write("abc");
+        assertEquals(0, out.size());
+        writer.write("defgh");
+        assertEquals("\"abc\"\n\"defgh\"\n", out.toString());
+    }
+
+    public void test_indention_rejected_before_writing() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsoniterSpi.setCurrentConfig(new Config.Builder().indentionStep(2).build());
+        try {
+            new JsonLinesWriter(out);
+            fail();
+        } catch (JsonException e) {
+        } finally {
+            JsoniterSpi.clearCurrentConfig();
+        }
+        assertEquals(0, out.size());
+    }
+}
@@ -422,4 +422,20 @@ public class TestObject extends TestCase {
         String output = JsonStream.serialize(new TestObject19());
         assertEquals("{}", output);
     }
+
+    public static class TestObject20 {
+        public int i = -1;
+        public long l = 1L << 40;
+        public boolean b = true;
+        public double d = 1.5;
+        public float f = 2.5f;
+        public short s = 7;
+        @JsonProperty("renamed")
+        public int q = 3;
+    }
+
+    public void test_primitive_fields() {
+        String output = JsonStream.serialize(new TestObject20());
+        assertEquals("{\"i\":-1,\"l\":1099511627776,\"b\":true,\"d\":1.5,\"f\":2.5,\"s\":7,\"renamed\":3}", output);
+    }
 }
@@ -1,10 +1,18 @@
 package com.jsoniter.output;
 
 import com.jsoniter.spi.Config;
+import com.jsoniter.spi.JsonException;
 import com.jsoniter.spi.JsoniterSpi;
 import junit.framework.TestCase;
 
+import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.Pipe;
+import java.util.Arrays;
 
 public class TestStreamBuffer extends TestCase {
 
@@ -65,4 +73,114 @@ public class TestStreamBuffer extends TestCase {
         jsonStream.writeVal(123456789L);
         assertEquals(36, jsonStream.buffer().len());
     }
+
+    public void test_segments() throws IOException {
+        JsonStream jsonStream = new JsonStream(null, 32);
+        jsonStream.enableSegments(32);
+        StringBuilder expected = new StringBuilder("[");
+        jsonStream.writeArrayStart();
+        for (int i = 0; i < 100; i++) {
+            if (i > 0) {
+                jsonStream.writeMore();
+                expected.append(',');
+            }
+            jsonStream.writeVal("value" + i);
+            expected.append("\"value").append(i).append("\"");
+        }
+        jsonStream.writeRaw(",0123456789012345678901234567890123456789");
+        expected.append(",0123456789012345678901234567890123456789");
+        jsonStream.write(",0123456789012345678901234567890123456789".getBytes());
+        expected.append(",0123456789012345678901234567890123456789");
+        jsonStream.writeArrayEnd();
+        expected.append(']');
+        byte[] bytes = expected.toString().getBytes("UTF-8");
+        assertEquals(bytes.length, jsonStream.size());
+        assertTrue(Arrays.equals(bytes, jsonStream.toByteArray()));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        jsonStream.writeTo(out);
+        assertTrue(Arrays.equals(bytes, out.toByteArray()));
+        File file = File.createTempFile("segments", ".json");
+        file.deleteOnExit();
+        RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        try {
+            jsonStream.writeTo(raf.getChannel());
+            byte[] written = new byte[(int) raf.length()];
+            raf.seek(0);
+            raf.readFully(written);
+            assertTrue(Arrays.equals(bytes, written));
+        } finally {
+            raf.close();
+        }
+        assertEquals(expected.toString(), new String(jsonStream.buffer().data(), 0, jsonStream.buffer().len(), "UTF-8"));
+    }
+
+    public void test_segments_reused_after_reset() throws IOException {
+        JsonStream jsonStream = new JsonStream(null, 32);
+        jsonStream.enableSegments(32);
+        for (int round = 0; round < 3; round++) {
+            jsonStream.reset(null);
+            for (int i = 0; i < 20; i++) {
+                jsonStream.writeVal(123456789);
+            }
+            assertEquals(180, jsonStream.size());
+        }
+    }
+
+    public void test_direct_byte_buffer() throws IOException {
+        ByteBuffer target = ByteBuffer.allocateDirect(1024);
+        target.put((byte) '#');
+        JsonStream.serialize(new int[]{1, 2, 3}, target);
+        target.flip();
+        byte[] bytes = new byte[target.remaining()];
+        target.get(bytes);
+        assertEquals("#[1,2,3]", new String(bytes));
+    }
+
+    public void test_byte_buffer_overflow() throws IOException {
+        JsonStream stream = JsonStream.forBuffer(ByteBuffer.allocate(4), 32);
+        stream.writeVal("hello");
+        try {
+            stream.flush();
+            fail();
+        } catch (JsonException e) {
+        }
+    }
+
+    public void test_non_blocking_channel() throws IOException {
+        Pipe pipe = Pipe.open();
+        try {
+            pipe.sink().configureBlocking(false);
+            try {
+                JsonStream.forChannel(pipe.sink(), 32);
+                fail();
+            } catch (JsonException e) {
+            }
+            JsonStream stream = new JsonStream(null, 32);
+            stream.enableSegments(64);
+            stream.writeVal("hello");
+            try {
+                stream.writeTo(pipe.sink());
+                fail();
+            } catch (JsonException e) {
+            }
+        } finally {
+            pipe.sink().close();
+            pipe.source().close();
+        }
+    }
+
+    public void test_channel() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonStream stream = JsonStream.forChannel(Channels.newChannel(out), 32);
+        stream.writeArrayStart();
+        for (int i = 0; i < 100; i++) {
+            if (i > 0) {
+                stream.writeMore();
+            }
+            stream.writeVal("0123456789");
+        }
+        stream.writeArrayEnd();
+        stream.flush();
+        assertEquals(100 * 13 + 1, out.size());
+    }
 }
@@ -20,6 +20,8 @@ import org.junit.runners.Suite;
         com.jsoniter.output.TestAnnotationJsonIgnore.class,
         com.jsoniter.TestAnnotationJsonProperty.class,
         com.jsoniter.output.TestAnnotationJsonProperty.class,
+        com.jsoniter.TestAnnotationJsonFixedPoint.class,
+        com.jsoniter.output.TestAnnotationJsonFixedPoint.class,
         TestAnnotationJsonWrapper.class,
         TestAnnotationJsonUnwrapper.class,
         TestAnnotation.class,
@@ -32,6 +34,19 @@ import org.junit.runners.Suite;
         TestObject.class,
         com.jsoniter.output.TestObject.class,
         TestReadAny.class, TestSkip.class, TestSlice.class,
+        TestTape.class,
+        TestByteBuffer.class,
+        TestJsonLines.class,
+        TestJsonLinesWriter.class,
+        TestParallelJsonLines.class,
+        TestPushParser.class,
+        TestPublisher.class,
+        TestUntyped.class,
+        TestSymbolTable.class,
+        TestStringCache.class,
+        TestCharInput.class,
+        TestPoolStrategy.class,
+        TestStreaming.class,
         TestString.class,
         com.jsoniter.output.TestString.class,
         TestWhatIsNext.class,